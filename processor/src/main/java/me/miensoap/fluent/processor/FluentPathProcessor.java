@@ -0,0 +1,297 @@
+package me.miensoap.fluent.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates {@code <Entity>Paths} classes holding typed property path constants for JPA entities.
+ * <p>
+ * Basic attributes become {@code PropertyPath} fields, associations and embeddables become nested
+ * path objects ({@code MemberPaths.team.name}). Beyond the first level, associations are exposed as
+ * methods ({@code PostPaths.likes.liker().team().name}) so cyclic entity graphs stay finite.
+ * Only field access is inspected.
+ */
+@SupportedAnnotationTypes({
+    FluentPathProcessor.ENTITY,
+    FluentPathProcessor.EMBEDDABLE
+})
+public class FluentPathProcessor extends AbstractProcessor {
+
+    static final String ENTITY = "jakarta.persistence.Entity";
+    static final String EMBEDDABLE = "jakarta.persistence.Embeddable";
+
+    private static final String MAPPED_SUPERCLASS = "jakarta.persistence.MappedSuperclass";
+    private static final String TRANSIENT = "jakarta.persistence.Transient";
+    private static final String PROPERTY_PATH = "me.miensoap.fluent.core.PropertyPath";
+    private static final String SUFFIX = "Paths";
+    private static final Set<String> RESERVED_METHODS = Set.of(
+        "get", "path", "type", "rootType", "toString", "hashCode", "equals", "getClass",
+        "notify", "notifyAll", "wait", "clone", "finalize"
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> targets = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    targets.add((TypeElement) element);
+                }
+            }
+        }
+        for (TypeElement target : targets) {
+            generate(target);
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String simpleName = pathsName(type);
+        String entityName = type.getQualifiedName().toString();
+        List<Attribute> attributes = attributes(type);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        source.append("public final class ").append(simpleName).append(" {\n\n");
+
+        for (Attribute attribute : attributes) {
+            source.append("    public static final ").append(attribute.fieldType(entityName)).append(' ')
+                .append(attribute.name).append(" = ").append(attribute.rootInitializer(entityName)).append(";\n");
+        }
+        if (!attributes.isEmpty()) {
+            source.append('\n');
+        }
+        source.append("    private ").append(simpleName).append("() {\n    }\n\n");
+
+        source.append("    public static final class Path<R> extends ").append(PROPERTY_PATH)
+            .append("<R, ").append(entityName).append("> {\n\n");
+        for (Attribute attribute : attributes) {
+            if (!attribute.isNested()) {
+                source.append("        public final ").append(attribute.fieldType("R")).append(' ')
+                    .append(attribute.name).append(";\n");
+            }
+        }
+        source.append("\n        public Path(Class<R> rootType, String path, Class<?> type) {\n");
+        source.append("            super(rootType, path, type);\n");
+        for (Attribute attribute : attributes) {
+            if (!attribute.isNested()) {
+                source.append("            this.").append(attribute.name).append(" = get(\"")
+                    .append(attribute.name).append("\", ").append(attribute.classLiteral).append(");\n");
+            }
+        }
+        source.append("        }\n");
+        for (Attribute attribute : attributes) {
+            if (!attribute.isNested()) {
+                continue;
+            }
+            if (RESERVED_METHODS.contains(attribute.name)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Skipping nested path method '" + attribute.name + "' because it clashes with PropertyPath", type);
+                continue;
+            }
+            source.append("\n        public ").append(attribute.fieldType("R")).append(' ').append(attribute.name)
+                .append("() {\n            return new ").append(attribute.nestedPaths).append(".Path<>(rootType(), path() + \".")
+                .append(attribute.name).append("\", ").append(attribute.classLiteral).append(");\n        }\n");
+        }
+        source.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Unable to generate " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private List<Attribute> attributes(TypeElement type) {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null) {
+            hierarchy.add(0, current);
+            current = persistentSuperclass(current);
+        }
+        List<Attribute> attributes = new ArrayList<>();
+        Set<String> names = new LinkedHashSet<>();
+        for (TypeElement declaring : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+                if (!isPersistent(field) || !names.add(field.getSimpleName().toString())) {
+                    continue;
+                }
+                attributes.add(attribute(field));
+            }
+        }
+        return attributes;
+    }
+
+    private Attribute attribute(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        String classLiteral = classLiteral(type);
+        TypeElement managed = managedType(type);
+        if (managed != null) {
+            return new Attribute(name, typeArgument(managed.asType()), classLiteral, nestedPathsName(managed));
+        }
+        TypeElement element = managedElementType(type);
+        if (element != null) {
+            return new Attribute(name, typeArgument(element.asType()), classLiteral, nestedPathsName(element));
+        }
+        return new Attribute(name, typeArgument(type), classLiteral, null);
+    }
+
+    private boolean isPersistent(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+            return false;
+        }
+        return !hasAnnotation(field, TRANSIENT);
+    }
+
+    private TypeElement persistentSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        if (hasAnnotation(element, MAPPED_SUPERCLASS) || hasAnnotation(element, ENTITY)) {
+            return element;
+        }
+        return null;
+    }
+
+    private TypeElement managedType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return hasAnnotation(element, ENTITY) || hasAnnotation(element, EMBEDDABLE) ? element : null;
+    }
+
+    private TypeElement managedElementType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        TypeMirror collection = processingEnv.getTypeUtils().erasure(
+            processingEnv.getElementUtils().getTypeElement("java.util.Collection").asType());
+        TypeMirror map = processingEnv.getTypeUtils().erasure(
+            processingEnv.getElementUtils().getTypeElement("java.util.Map").asType());
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (processingEnv.getTypeUtils().isAssignable(erased, collection) && arguments.size() == 1) {
+            return managedType(arguments.get(0));
+        }
+        if (processingEnv.getTypeUtils().isAssignable(erased, map) && arguments.size() == 2) {
+            return managedType(arguments.get(1));
+        }
+        return null;
+    }
+
+    private String typeArgument(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type)
+                .getQualifiedName().toString();
+        }
+        String rendered = type.toString();
+        if (rendered.contains("@") || type.getKind() == TypeKind.TYPEVAR) {
+            return processingEnv.getTypeUtils().erasure(type).toString();
+        }
+        return rendered;
+    }
+
+    private String classLiteral(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.toString() + ".class";
+        }
+        return processingEnv.getTypeUtils().erasure(type).toString() + ".class";
+    }
+
+    private boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String nestedPathsName(TypeElement type) {
+        String packageName = packageOf(type).getQualifiedName().toString();
+        return packageName.isEmpty() ? pathsName(type) : packageName + "." + pathsName(type);
+    }
+
+    private String pathsName(TypeElement type) {
+        return type.getSimpleName() + SUFFIX;
+    }
+
+    private PackageElement packageOf(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type);
+    }
+
+    private static final class Attribute {
+
+        private final String name;
+        private final String valueType;
+        private final String classLiteral;
+        private final String nestedPaths;
+
+        Attribute(String name, String valueType, String classLiteral, String nestedPaths) {
+            this.name = name;
+            this.valueType = valueType;
+            this.classLiteral = classLiteral;
+            this.nestedPaths = nestedPaths;
+        }
+
+        boolean isNested() {
+            return nestedPaths != null;
+        }
+
+        String fieldType(String rootType) {
+            if (isNested()) {
+                return nestedPaths + ".Path<" + rootType + ">";
+            }
+            return PROPERTY_PATH + "<" + rootType + ", " + valueType + ">";
+        }
+
+        String rootInitializer(String entityType) {
+            if (isNested()) {
+                return "new " + nestedPaths + ".Path<>(" + entityType + ".class, \"" + name + "\", " + classLiteral + ")";
+            }
+            return PROPERTY_PATH + ".of(" + entityType + ".class, \"" + name + "\", " + classLiteral + ")";
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package me.miensoap.fluent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.miensoap.fluent.core.FluentQueryCache;
+import me.miensoap.fluent.core.FluentQueryObserver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Registers a {@link me.miensoap.fluent.core.FluentQueryContext} for every {@link FluentRepository} bean.
+ * <p>
+ * Terminal operations are reported to the application's {@link FluentQueryObserver}, or to Micrometer
+ * when a {@link MeterRegistry} is available and no observer is declared. Result caching is opt-in: a
+ * {@link FluentQueryCache}, and with it the Hibernate listeners that invalidate it, is only set up when
+ * the application declares one or sets {@code fluent.query.cache.enabled=true}. Work that leaves the
+ * calling thread runs in read-only transactions of the application's {@link PlatformTransactionManager}.
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(EntityManagerFactory.class)
+public class FluentQueryAutoConfiguration {
+
+    @Bean
+    static FluentQueryContextRegistrar fluentQueryContextRegistrar(
+        ObjectProvider<EntityManagerFactory> entityManagerFactories,
+        ObjectProvider<FluentQueryObserver> observers,
+        ObjectProvider<FluentQueryCache> caches,
+        ObjectProvider<PlatformTransactionManager> transactionManagers) {
+        return new FluentQueryContextRegistrar(entityManagerFactories, observers, caches, transactionManagers);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fluent.query.cache", name = "enabled", havingValue = "true")
+    FluentQueryCache fluentQueryCache() {
+        return new FluentQueryCache();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    static class MicrometerObserverConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(FluentQueryObserver.class)
+        MicrometerFluentQueryObserver micrometerFluentQueryObserver(MeterRegistry registry) {
+            return new MicrometerFluentQueryObserver(registry);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package me.miensoap.fluent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import me.miensoap.fluent.core.FluentQueryCache;
+import me.miensoap.fluent.core.FluentQueryContext;
+import me.miensoap.fluent.core.FluentQueryObserver;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.ResolvableType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.ClassUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Binds each {@link FluentRepository} proxy to the EntityManagerFactory that manages its domain type.
+ */
+final class FluentQueryContextRegistrar implements BeanPostProcessor, DisposableBean {
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+        "org.hibernate.event.service.spi.EventListenerRegistry", FluentQueryContextRegistrar.class.getClassLoader());
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+    private final ObjectProvider<FluentQueryObserver> observers;
+    private final ObjectProvider<FluentQueryCache> caches;
+    private final ObjectProvider<PlatformTransactionManager> transactionManagers;
+    private final List<Object> registered = new CopyOnWriteArrayList<>();
+    private final Set<EntityManagerFactory> invalidating = ConcurrentHashMap.newKeySet();
+
+    FluentQueryContextRegistrar(ObjectProvider<EntityManagerFactory> entityManagerFactories,
+                                ObjectProvider<FluentQueryObserver> observers,
+                                ObjectProvider<FluentQueryCache> caches,
+                                ObjectProvider<PlatformTransactionManager> transactionManagers) {
+        this.entityManagerFactories = entityManagerFactories;
+        this.observers = observers;
+        this.caches = caches;
+        this.transactionManagers = transactionManagers;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof FluentRepository<?, ?>) {
+            register(bean);
+        }
+        return bean;
+    }
+
+    @Override
+    public void destroy() {
+        registered.forEach(FluentQueryContexts::unregister);
+        registered.clear();
+    }
+
+    private void register(Object repository) {
+        Class<?> domainType = ResolvableType.forClass(repository.getClass())
+            .as(FluentRepository.class)
+            .resolveGeneric(0);
+        if (domainType == null) {
+            return;
+        }
+        FluentQueryObserver observer = observers.getIfUnique(() -> FluentQueryObserver.NOOP);
+        FluentQueryCache cache = caches.getIfUnique();
+        entityManagerFactories.orderedStream()
+            .filter(factory -> manages(factory, domainType))
+            .findFirst()
+            .ifPresent(factory -> {
+                if (cache != null && HIBERNATE_PRESENT && invalidating.add(factory)) {
+                    HibernateCacheInvalidation.register(factory, cache);
+                }
+                FluentQueryContexts.register(repository, new FluentQueryContext<>(domainType, factory,
+                    FluentQueryContext.defaultExecutor(), observer, cache, transactionManager(factory)));
+                registered.add(repository);
+            });
+    }
+
+    /**
+     * The application's transaction manager for {@code factory}: the unique one unless it is a
+     * {@link JpaTransactionManager} of another factory, otherwise the JpaTransactionManager of this one.
+     * Without a match the context falls back to a transaction manager of its own.
+     */
+    private PlatformTransactionManager transactionManager(EntityManagerFactory factory) {
+        PlatformTransactionManager unique = transactionManagers.getIfUnique();
+        if (unique != null && !(unique instanceof JpaTransactionManager jpa && jpa.getEntityManagerFactory() != factory)) {
+            return unique;
+        }
+        return transactionManagers.orderedStream()
+            .filter(manager -> manager instanceof JpaTransactionManager jpa && jpa.getEntityManagerFactory() == factory)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private boolean manages(EntityManagerFactory factory, Class<?> domainType) {
+        try {
+            factory.getMetamodel().managedType(domainType);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package me.miensoap.fluent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import me.miensoap.fluent.core.FluentQueryContext;
+
+/**
+ * Contexts of the {@link FluentRepository} beans of all running application contexts, keyed by the
+ * repository proxy so that {@link FluentRepository#query()} can pick up its own context.
+ */
+final class FluentQueryContexts {
+
+    private static final ConcurrentMap<Object, FluentQueryContext<?>> CONTEXTS = new ConcurrentHashMap<>();
+
+    private FluentQueryContexts() {
+    }
+
+    static void register(Object repository, FluentQueryContext<?> context) {
+        CONTEXTS.put(repository, context);
+    }
+
+    static void unregister(Object repository) {
+        CONTEXTS.remove(repository);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> FluentQueryContext<T> lookup(FluentRepository<T, ?> repository) {
+        return (FluentQueryContext<T>) CONTEXTS.get(repository);
+    }
+}
@@ -14,6 +14,6 @@ public interface FluentRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecif
 
     @NotNull
     default FluentQuery<T> query() {
-        return new FluentQuery<>(this);
+        return new FluentQuery<>(this, FluentQueryContexts.lookup(this));
     }
 }
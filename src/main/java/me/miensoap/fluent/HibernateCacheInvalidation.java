@@ -0,0 +1,104 @@
+package me.miensoap.fluent;
+
+import me.miensoap.fluent.core.FluentQueryCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Invalidates {@link FluentQueryCache} entries when Hibernate writes an entity or one of its collections.
+ * Only referenced after checking that Hibernate is on the classpath.
+ */
+final class HibernateCacheInvalidation implements PostInsertEventListener, PostUpdateEventListener,
+    PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+    PostCollectionRemoveEventListener {
+
+    private final FluentQueryCache cache;
+
+    private HibernateCacheInvalidation(FluentQueryCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Appends the listeners to the factory's event registry; factories of other providers are skipped.
+     */
+    static void register(EntityManagerFactory factory, FluentQueryCache cache) {
+        SessionFactoryImplementor sessionFactory;
+        try {
+            sessionFactory = factory.unwrap(SessionFactoryImplementor.class);
+        } catch (RuntimeException e) {
+            return;
+        }
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        if (registry == null) {
+            return;
+        }
+        HibernateCacheInvalidation listener = new HibernateCacheInvalidation(cache);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        cache.invalidate(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        cache.invalidate(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        cache.invalidate(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        invalidateOwner(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        invalidateOwner(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        invalidateOwner(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void invalidateOwner(AbstractCollectionEvent event) {
+        String ownerName = event.getAffectedOwnerEntityName();
+        if (ownerName != null) {
+            cache.invalidate(event.getSession().getFactory().getMappingMetamodel()
+                .getEntityDescriptor(ownerName)
+                .getMappedClass());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package me.miensoap.fluent;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import me.miensoap.fluent.core.FluentQueryObserver;
+import me.miensoap.fluent.core.QueryExecution;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Records {@code fluent.query} latency timers and {@code fluent.query.rows} summaries, tagged by entity,
+ * operation, query shape and outcome.
+ * <p>
+ * Shapes never contain bound values, so the number of series stays bounded by the distinct queries the
+ * application declares.
+ */
+public final class MicrometerFluentQueryObserver implements FluentQueryObserver {
+
+    private final MeterRegistry registry;
+
+    public MicrometerFluentQueryObserver(@NotNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onExecution(@NotNull QueryExecution execution) {
+        Tags tags = Tags.of(
+            "entity", execution.domainType().getSimpleName(),
+            "operation", execution.operation(),
+            "shape", execution.shape().toString()
+        );
+        Timer.builder("fluent.query")
+            .tags(tags)
+            .tag("outcome", execution.succeeded() ? "success" : "error")
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(execution.duration());
+        if (execution.succeeded()) {
+            DistributionSummary.builder("fluent.query.rows")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(execution.rows());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package me.miensoap.fluent.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+/**
+ * Dot-separated attribute path parsed once and shared by predicates, orderings and fetch joins.
+ * <p>
+ * Instances are validated against the JPA metamodel the first time they are applied to a given entity
+ * type, so hot queries navigate a fixed segment array. Only paths that passed this validation are
+ * interned, so paths that come from requests, such as sort parameters, cannot grow the table with
+ * arbitrary strings. Association segments are navigated through {@link JoinRegistry} so every query
+ * joins each association once.
+ */
+final class AttributePath {
+
+    /**
+     * Associations that reference each other allow unboundedly many valid paths, so the table is capped
+     * as well; paths beyond it are parsed per use.
+     */
+    private static final int MAX_INTERNED = 4096;
+
+    private static final ConcurrentMap<String, AttributePath> INTERNED = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final String[] segments;
+    private final String[] prefixes;
+    private final ConcurrentMap<Class<?>, boolean[]> joinPlans = new ConcurrentHashMap<>();
+
+    private AttributePath(String path, String[] segments) {
+        this.path = path;
+        this.segments = segments;
+        this.prefixes = new String[segments.length];
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                prefix.append('.');
+            }
+            prefixes[i] = prefix.append(segments[i]).toString();
+        }
+    }
+
+    static AttributePath of(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Attribute path must not be null");
+        }
+        AttributePath interned = INTERNED.get(path);
+        return interned != null ? interned : parse(path);
+    }
+
+    static boolean isInterned(String path) {
+        return INTERNED.containsKey(path);
+    }
+
+    String path() {
+        return path;
+    }
+
+    int length() {
+        return segments.length;
+    }
+
+    String segment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * Navigates the path from the root, joining association segments through {@link JoinRegistry}.
+     *
+     * @param joinTypes join type to use when an association prefix (e.g. {@code team}) is not joined yet
+     */
+    @SuppressWarnings("unchecked")
+    <Y> Path<Y> resolve(Root<?> root, Function<String, JoinType> joinTypes) {
+        boolean[] joinable = joinPlan(root);
+        Path<?> current = root;
+        int last = segments.length - 1;
+        for (int i = 0; i < segments.length; i++) {
+            if (i < last && joinable[i] && current instanceof From<?, ?> from) {
+                current = JoinRegistry.join(from, segments[i], joinTypes.apply(prefixes[i]));
+            } else {
+                current = current.get(segments[i]);
+            }
+        }
+        return (Path<Y>) current;
+    }
+
+    /**
+     * Whether any segment of this path is a collection of the given managed type.
+     */
+    boolean traversesCollection(ManagedType<?> model) {
+        ManagedType<?> current = model;
+        for (String segment : segments) {
+            if (current == null) {
+                return false;
+            }
+            Attribute<?, ?> attribute = attribute(current, segment, model.getJavaType());
+            if (attribute.isCollection()) {
+                return true;
+            }
+            current = next(attribute);
+        }
+        return false;
+    }
+
+    /**
+     * Whether reaching the last segment navigates an association, e.g. {@code team} in {@code team.name}.
+     */
+    boolean navigatesAssociation(ManagedType<?> model) {
+        ManagedType<?> current = model;
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (current == null) {
+                return false;
+            }
+            Attribute<?, ?> attribute = attribute(current, segments[i], model.getJavaType());
+            if (attribute.isAssociation() || attribute.isCollection()) {
+                return true;
+            }
+            current = next(attribute);
+        }
+        return false;
+    }
+
+    /**
+     * Adds the entity types this path navigates into, e.g. {@code Team} for {@code team.name}.
+     */
+    void collectEntityTypes(ManagedType<?> model, Set<Class<?>> types) {
+        ManagedType<?> current = model;
+        for (String segment : segments) {
+            if (current == null) {
+                return;
+            }
+            current = next(attribute(current, segment, model.getJavaType()));
+            if (current instanceof EntityType<?> entity) {
+                types.add(entity.getJavaType());
+            }
+        }
+    }
+
+    private boolean[] joinPlan(Root<?> root) {
+        Class<?> entityType = root.getJavaType();
+        boolean[] plan = entityType == null ? null : joinPlans.get(entityType);
+        if (plan != null) {
+            return plan;
+        }
+        plan = new boolean[segments.length];
+        ManagedType<?> current = root.getModel();
+        for (int i = 0; i < segments.length; i++) {
+            if (current == null) {
+                throw new IllegalArgumentException("Attribute '" + segments[i - 1] + "' in path '" + path
+                    + "' of " + describe(entityType) + " cannot be navigated further");
+            }
+            Attribute<?, ?> attribute = attribute(current, segments[i], entityType);
+            plan[i] = attribute.isAssociation() || attribute.isCollection();
+            current = next(attribute);
+        }
+        if (entityType != null) {
+            joinPlans.putIfAbsent(entityType, plan);
+            if (INTERNED.size() < MAX_INTERNED) {
+                INTERNED.putIfAbsent(path, this);
+            }
+        }
+        return plan;
+    }
+
+    private Attribute<?, ?> attribute(ManagedType<?> type, String segment, Class<?> entityType) {
+        try {
+            return type.getAttribute(segment);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown attribute '" + segment + "' in path '" + path
+                + "' of " + describe(entityType), e);
+        }
+    }
+
+    private String describe(Class<?> entityType) {
+        return entityType == null ? "<unknown>" : entityType.getSimpleName();
+    }
+
+    private ManagedType<?> next(Attribute<?, ?> attribute) {
+        Type<?> type = null;
+        if (attribute instanceof SingularAttribute<?, ?> singular) {
+            type = singular.getType();
+        } else if (attribute instanceof PluralAttribute<?, ?, ?> plural) {
+            type = plural.getElementType();
+        }
+        return type instanceof ManagedType<?> managed ? managed : null;
+    }
+
+    private static AttributePath parse(String raw) {
+        String path = raw.trim();
+        if (path.isEmpty()) {
+            throw new IllegalArgumentException("Attribute path must not be blank");
+        }
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('.', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end).trim();
+            if (segment.isEmpty()) {
+                throw new IllegalArgumentException("Invalid attribute path: " + raw);
+            }
+            parts.add(segment);
+            start = end + 1;
+        }
+        return new AttributePath(String.join(".", parts), parts.toArray(new String[0]));
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
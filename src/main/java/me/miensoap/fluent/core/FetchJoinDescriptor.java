@@ -1,12 +1,11 @@
 package me.miensoap.fluent.core;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.FetchParent;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.ManagedType;
 
 /**
  * Stores fetch join metadata and applies it to a Criteria query tree.
@@ -15,7 +14,7 @@ final class FetchJoinDescriptor {
 
     private final String path;
     private final JoinType joinType;
-    private final List<String> segments;
+    private final AttributePath attributePath;
 
     FetchJoinDescriptor(String path, JoinType joinType) {
         Objects.requireNonNull(joinType, "JoinType must not be null");
@@ -24,13 +23,13 @@ final class FetchJoinDescriptor {
         }
         this.path = path.trim();
         this.joinType = joinType;
-        this.segments = parseSegments(this.path);
+        this.attributePath = AttributePath.of(this.path);
     }
 
     void apply(FetchParent<?, ?> parent) {
         FetchParent<?, ?> current = parent;
-        for (String segment : segments) {
-            current = fetch(current, segment);
+        for (int i = 0; i < attributePath.length(); i++) {
+            current = fetch(current, attributePath.segment(i));
         }
     }
 
@@ -42,6 +41,21 @@ final class FetchJoinDescriptor {
         return path;
     }
 
+    JoinType joinType() {
+        return joinType;
+    }
+
+    /**
+     * Whether applying this fetch join also fetches the given association prefix.
+     */
+    boolean covers(String prefix) {
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '.');
+    }
+
+    boolean fetchesCollection(ManagedType<?> model) {
+        return attributePath.traversesCollection(model);
+    }
+
     @SuppressWarnings("unchecked")
     private FetchParent<?, ?> fetch(FetchParent<?, ?> parent, String attribute) {
         Fetch<?, ?> existing = findExisting(parent, attribute);
@@ -59,17 +73,4 @@ final class FetchJoinDescriptor {
         }
         return null;
     }
-
-    private List<String> parseSegments(String path) {
-        String[] parts = path.split("\\.");
-        List<String> result = new ArrayList<>(parts.length);
-        for (String part : parts) {
-            String segment = part.trim();
-            if (segment.isEmpty()) {
-                throw new IllegalArgumentException("Invalid fetch join path: " + path);
-            }
-            result.add(segment);
-        }
-        return result;
-    }
 }
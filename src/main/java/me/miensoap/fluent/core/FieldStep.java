@@ -3,6 +3,8 @@ package me.miensoap.fluent.core;
 import java.util.Collection;
 import java.util.Objects;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
 
@@ -17,6 +19,7 @@ public class FieldStep<T> {
 
     private final FluentQuery<T> builder;
     private final String field;
+    private final AttributePath attributePath;
     private final boolean isOr;
     private final Class<?> propertyType;
     private final boolean typed;
@@ -32,47 +35,106 @@ public class FieldStep<T> {
     private FieldStep(FluentQuery<T> builder, String field, boolean isOr, Class<?> propertyType, boolean typed) {
         this.builder = builder;
         this.field = field;
+        this.attributePath = AttributePath.of(field);
         this.isOr = isOr;
         this.propertyType = propertyType;
         this.typed = typed;
     }
 
+    /**
+     * @param value the value to compare with, or a {@link Param} bound when a compiled template runs
+     */
     @NotNull
     public FluentQuery<T> equalTo(@Nullable Object value) {
-        return apply((root, query, cb) -> cb.equal(path(root), value));
+        if (value instanceof Param param) {
+            return apply("equalTo", (root, query, cb) -> {
+                Path<Object> path = path(root);
+                return cb.equal(path, parameter(cb, path, param));
+            }, value);
+        }
+        return apply("equalTo", (root, query, cb) -> cb.equal(path(root), value), value);
     }
 
+    /**
+     * @param value the value to compare with, or a {@link Param} bound when a compiled template runs
+     */
     @NotNull
     public FluentQuery<T> notEqualTo(@Nullable Object value) {
-        return apply((root, query, cb) -> cb.notEqual(path(root), value));
+        if (value instanceof Param param) {
+            return apply("notEqualTo", (root, query, cb) -> {
+                Path<Object> path = path(root);
+                return cb.notEqual(path, parameter(cb, path, param));
+            }, value);
+        }
+        return apply("notEqualTo", (root, query, cb) -> cb.notEqual(path(root), value), value);
     }
 
     @NotNull
     public FluentQuery<T> greaterThan(@NotNull Number value) {
         ensureNumber("greaterThan");
         requireValue(value, "greaterThan");
-        return apply((root, query, cb) -> cb.gt(path(root, Number.class), value));
+        return apply("greaterThan", (root, query, cb) -> cb.gt(path(root, Number.class), value), value);
     }
 
     @NotNull
     public FluentQuery<T> greaterThanOrEqualTo(@NotNull Number value) {
         ensureNumber("greaterThanOrEqualTo");
         requireValue(value, "greaterThanOrEqualTo");
-        return apply((root, query, cb) -> cb.ge(path(root, Number.class), value));
+        return apply("greaterThanOrEqualTo", (root, query, cb) -> cb.ge(path(root, Number.class), value), value);
     }
 
     @NotNull
     public FluentQuery<T> lessThan(@NotNull Number value) {
         ensureNumber("lessThan");
         requireValue(value, "lessThan");
-        return apply((root, query, cb) -> cb.lt(path(root, Number.class), value));
+        return apply("lessThan", (root, query, cb) -> cb.lt(path(root, Number.class), value), value);
     }
 
     @NotNull
     public FluentQuery<T> lessThanOrEqualTo(@NotNull Number value) {
         ensureNumber("lessThanOrEqualTo");
         requireValue(value, "lessThanOrEqualTo");
-        return apply((root, query, cb) -> cb.le(path(root, Number.class), value));
+        return apply("lessThanOrEqualTo", (root, query, cb) -> cb.le(path(root, Number.class), value), value);
+    }
+
+    @NotNull
+    public FluentQuery<T> greaterThan(@NotNull Param param) {
+        ensureNumber("greaterThan");
+        requireValue(param, "greaterThan");
+        return apply("greaterThan", (root, query, cb) -> {
+            Path<Number> path = path(root, Number.class);
+            return cb.gt(path, parameter(cb, path, param));
+        }, param);
+    }
+
+    @NotNull
+    public FluentQuery<T> greaterThanOrEqualTo(@NotNull Param param) {
+        ensureNumber("greaterThanOrEqualTo");
+        requireValue(param, "greaterThanOrEqualTo");
+        return apply("greaterThanOrEqualTo", (root, query, cb) -> {
+            Path<Number> path = path(root, Number.class);
+            return cb.ge(path, parameter(cb, path, param));
+        }, param);
+    }
+
+    @NotNull
+    public FluentQuery<T> lessThan(@NotNull Param param) {
+        ensureNumber("lessThan");
+        requireValue(param, "lessThan");
+        return apply("lessThan", (root, query, cb) -> {
+            Path<Number> path = path(root, Number.class);
+            return cb.lt(path, parameter(cb, path, param));
+        }, param);
+    }
+
+    @NotNull
+    public FluentQuery<T> lessThanOrEqualTo(@NotNull Param param) {
+        ensureNumber("lessThanOrEqualTo");
+        requireValue(param, "lessThanOrEqualTo");
+        return apply("lessThanOrEqualTo", (root, query, cb) -> {
+            Path<Number> path = path(root, Number.class);
+            return cb.le(path, parameter(cb, path, param));
+        }, param);
     }
 
     @NotNull
@@ -80,157 +142,174 @@ public class FieldStep<T> {
         ensureComparable("between");
         requireValue(start, "between start");
         requireValue(end, "between end");
-        return apply((root, query, cb) -> cb.between(path(root), start, end));
+        return apply("between", (root, query, cb) -> cb.between(path(root), start, end), start, end);
     }
 
     @NotNull
     public <Y extends Comparable<? super Y>> FluentQuery<T> after(@NotNull Y value) {
         ensureComparable("after");
         requireValue(value, "after");
-        return apply((root, query, cb) -> cb.greaterThan(path(root), value));
+        return apply("after", (root, query, cb) -> cb.greaterThan(path(root), value), value);
     }
 
     @NotNull
     public <Y extends Comparable<? super Y>> FluentQuery<T> before(@NotNull Y value) {
         ensureComparable("before");
         requireValue(value, "before");
-        return apply((root, query, cb) -> cb.lessThan(path(root), value));
+        return apply("before", (root, query, cb) -> cb.lessThan(path(root), value), value);
+    }
+
+    @NotNull
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public FluentQuery<T> after(@NotNull Param param) {
+        ensureComparable("after");
+        requireValue(param, "after");
+        return apply("after", (root, query, cb) -> {
+            Path<Comparable> path = path(root, Comparable.class);
+            return cb.greaterThan(path, parameter(cb, path, param));
+        }, param);
+    }
+
+    @NotNull
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public FluentQuery<T> before(@NotNull Param param) {
+        ensureComparable("before");
+        requireValue(param, "before");
+        return apply("before", (root, query, cb) -> {
+            Path<Comparable> path = path(root, Comparable.class);
+            return cb.lessThan(path, parameter(cb, path, param));
+        }, param);
     }
 
     @NotNull
     public FluentQuery<T> like(@NotNull String pattern) {
         ensureString("like");
         requireText(pattern, "like");
-        return apply((root, query, cb) -> cb.like(path(root, String.class), pattern));
+        return apply("like", (root, query, cb) -> cb.like(path(root, String.class), pattern), pattern);
     }
 
     @NotNull
     public FluentQuery<T> containing(@NotNull String value) {
         ensureString("containing");
         requireText(value, "containing");
-        return apply((root, query, cb) -> cb.like(path(root, String.class), "%" + value + "%"));
+        return apply("containing", (root, query, cb) -> cb.like(path(root, String.class), "%" + value + "%"), value);
     }
 
     @NotNull
     public FluentQuery<T> startingWith(@NotNull String value) {
         ensureString("startingWith");
         requireText(value, "startingWith");
-        return apply((root, query, cb) -> cb.like(path(root, String.class), value + "%"));
+        return apply("startingWith", (root, query, cb) -> cb.like(path(root, String.class), value + "%"), value);
     }
 
     @NotNull
     public FluentQuery<T> endingWith(@NotNull String value) {
         ensureString("endingWith");
         requireText(value, "endingWith");
-        return apply((root, query, cb) -> cb.like(path(root, String.class), "%" + value));
+        return apply("endingWith", (root, query, cb) -> cb.like(path(root, String.class), "%" + value), value);
     }
 
     @NotNull
     public FluentQuery<T> notContaining(@NotNull String value) {
         ensureString("notContaining");
         requireText(value, "notContaining");
-        return apply((root, query, cb) -> cb.notLike(path(root, String.class), "%" + value + "%"));
+        return apply("notContaining", (root, query, cb) -> cb.notLike(path(root, String.class), "%" + value + "%"), value);
     }
 
     @NotNull
     public FluentQuery<T> notLike(@NotNull String pattern) {
         ensureString("notLike");
         requireText(pattern, "notLike");
-        return apply((root, query, cb) -> cb.notLike(path(root, String.class), pattern));
+        return apply("notLike", (root, query, cb) -> cb.notLike(path(root, String.class), pattern), pattern);
     }
 
     @NotNull
     public FluentQuery<T> likeIgnoreCase(@NotNull String pattern) {
         ensureString("likeIgnoreCase");
         requireText(pattern, "likeIgnoreCase");
-        return apply((root, query, cb) -> cb.like(cb.lower(path(root, String.class)), pattern.toLowerCase()));
+        return apply("likeIgnoreCase", (root, query, cb) -> cb.like(cb.lower(path(root, String.class)), pattern.toLowerCase()), pattern);
     }
 
     @NotNull
     public FluentQuery<T> containingIgnoreCase(@NotNull String value) {
         ensureString("containingIgnoreCase");
         requireText(value, "containingIgnoreCase");
-        return apply((root, query, cb) -> cb.like(cb.lower(path(root, String.class)), ("%" + value + "%").toLowerCase()));
+        return apply("containingIgnoreCase", (root, query, cb) -> cb.like(cb.lower(path(root, String.class)), ("%" + value + "%").toLowerCase()), value);
     }
 
     @NotNull
     public FluentQuery<T> startingWithIgnoreCase(@NotNull String value) {
         ensureString("startingWithIgnoreCase");
         requireText(value, "startingWithIgnoreCase");
-        return apply((root, query, cb) -> cb.like(cb.lower(path(root, String.class)), (value + "%").toLowerCase()));
+        return apply("startingWithIgnoreCase", (root, query, cb) -> cb.like(cb.lower(path(root, String.class)), (value + "%").toLowerCase()), value);
     }
 
     @NotNull
     public FluentQuery<T> endingWithIgnoreCase(@NotNull String value) {
         ensureString("endingWithIgnoreCase");
         requireText(value, "endingWithIgnoreCase");
-        return apply((root, query, cb) -> cb.like(cb.lower(path(root, String.class)), ("%" + value).toLowerCase()));
+        return apply("endingWithIgnoreCase", (root, query, cb) -> cb.like(cb.lower(path(root, String.class)), ("%" + value).toLowerCase()), value);
     }
 
     @NotNull
     public FluentQuery<T> in(@NotNull Collection<?> values) {
         Collection<?> normalized = requireCollection(values, "in");
         if (normalized.isEmpty()) {
-            return apply((root, query, cb) -> cb.disjunction());
+            return apply("in", (root, query, cb) -> cb.disjunction(), normalized);
         }
-        return apply((root, query, cb) -> path(root).in(normalized));
+        return apply("in", (root, query, cb) -> InLists.in(cb, path(root), normalized, builder.inListChunkSize()), normalized);
     }
 
     @NotNull
     public FluentQuery<T> notIn(@NotNull Collection<?> values) {
         Collection<?> normalized = requireCollection(values, "notIn");
         if (normalized.isEmpty()) {
-            return apply((root, query, cb) -> cb.conjunction());
+            return apply("notIn", (root, query, cb) -> cb.conjunction(), normalized);
         }
-        return apply((root, query, cb) -> cb.not(path(root).in(normalized)));
+        return apply("notIn", (root, query, cb) -> InLists.notIn(cb, path(root), normalized, builder.inListChunkSize()), normalized);
     }
 
     @NotNull
     public FluentQuery<T> isNull() {
-        return apply((root, query, cb) -> cb.isNull(path(root)));
+        return apply("isNull", (root, query, cb) -> cb.isNull(path(root)));
     }
 
     @NotNull
     public FluentQuery<T> isNotNull() {
-        return apply((root, query, cb) -> cb.isNotNull(path(root)));
+        return apply("isNotNull", (root, query, cb) -> cb.isNotNull(path(root)));
     }
 
     @NotNull
     public FluentQuery<T> isTrue() {
         ensureBoolean("isTrue");
-        return apply((root, query, cb) -> cb.isTrue(path(root, Boolean.class)));
+        return apply("isTrue", (root, query, cb) -> cb.isTrue(path(root, Boolean.class)));
     }
 
     @NotNull
     public FluentQuery<T> isFalse() {
         ensureBoolean("isFalse");
-        return apply((root, query, cb) -> cb.isFalse(path(root, Boolean.class)));
+        return apply("isFalse", (root, query, cb) -> cb.isFalse(path(root, Boolean.class)));
     }
 
     @NotNull
     public FluentQuery<T> isEmpty() {
         ensureCollection("isEmpty");
-        return apply((root, query, cb) -> cb.isEmpty(path(root)));
+        return apply("isEmpty", (root, query, cb) -> cb.isEmpty(path(root)));
     }
 
     @NotNull
     public FluentQuery<T> isNotEmpty() {
         ensureCollection("isNotEmpty");
-        return apply((root, query, cb) -> cb.isNotEmpty(path(root)));
+        return apply("isNotEmpty", (root, query, cb) -> cb.isNotEmpty(path(root)));
     }
 
-    private FluentQuery<T> apply(Specification<T> next) {
-        builder.addCondition(next, isOr);
+    private FluentQuery<T> apply(String operator, Specification<T> next, Object... values) {
+        builder.addCondition(next, isOr, new QueryShape.Condition(attributePath.path(), operator), values);
         return builder;
     }
 
-    @SuppressWarnings("unchecked")
     private <Y> Path<Y> path(Root<T> root) {
-        Path<?> current = root;
-        for (String part : field.split("\\.")) {
-            current = current.get(part);
-        }
-        return (Path<Y>) current;
+        return attributePath.resolve(root, builder.predicateJoinTypes());
     }
 
     @SuppressWarnings("unchecked")
@@ -238,6 +317,11 @@ public class FieldStep<T> {
         return path(root);
     }
 
+    @SuppressWarnings("unchecked")
+    private <Y> Expression<Y> parameter(CriteriaBuilder cb, Path<Y> path, Param param) {
+        return cb.parameter((Class<Y>) boxed(path.getJavaType()), param.name());
+    }
+
     private void requireValue(Object value, String name) {
         Objects.requireNonNull(value, name + " value must not be null");
     }
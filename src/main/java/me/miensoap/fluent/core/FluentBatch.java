@@ -0,0 +1,94 @@
+package me.miensoap.fluent.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+/**
+ * Runs the terminals of several independent {@link FluentQuery fluent queries}, possibly of different
+ * repositories, at the same time, so a handler waits for the slowest query instead of the sum of all.
+ * <pre>{@code
+ * FluentBatch batch = new FluentBatch();
+ * FluentBatch.Result<List<Member>> members = batch.add(memberRepository.query().where(...), FluentQuery::fetch);
+ * FluentBatch.Result<Long> posts = batch.add(postRepository.query(), FluentQuery::count);
+ * batch.execute();
+ * }</pre>
+ * Each terminal runs like its asynchronous counterpart: on the query context's executor in its own
+ * read-only transaction and connection, returning detached entities.
+ */
+public final class FluentBatch {
+
+    private final List<Result<?>> results = new ArrayList<>();
+    private boolean executed;
+
+    /**
+     * Registers a terminal to run on {@link #execute()}.
+     *
+     * @param terminal terminal to apply, e.g. {@code FluentQuery::fetch}
+     */
+    @NotNull
+    public <T, R> Result<R> add(@NotNull FluentQuery<T> query, @NotNull Function<? super FluentQuery<T>, ? extends R> terminal) {
+        Objects.requireNonNull(query, "Query must not be null");
+        Objects.requireNonNull(terminal, "Terminal must not be null");
+        if (executed) {
+            throw new IllegalStateException("Batch has already been executed");
+        }
+        query.requireContext("Batches");
+        Result<R> result = new Result<>(() -> query.<R>async(() -> terminal.apply(query)));
+        results.add(result);
+        return result;
+    }
+
+    /**
+     * Starts all registered terminals and waits until every one has completed. If any failed, its
+     * exception is rethrown after the others have finished.
+     */
+    public void execute() {
+        if (executed) {
+            throw new IllegalStateException("Batch has already been executed");
+        }
+        executed = true;
+        results.forEach(Result::start);
+        CompletableFuture<?>[] futures = results.stream().map(result -> result.future).toArray(CompletableFuture<?>[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                RuntimeException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(failure);
+                throw translated != null ? translated : failure;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Handle to the value of one terminal, available once the batch has been executed.
+     */
+    public static final class Result<R> {
+
+        private final Supplier<CompletableFuture<? extends R>> starter;
+        private CompletableFuture<? extends R> future;
+
+        private Result(Supplier<CompletableFuture<? extends R>> starter) {
+            this.starter = starter;
+        }
+
+        private void start() {
+            future = starter.get();
+        }
+
+        public R get() {
+            if (future == null) {
+                throw new IllegalStateException("Batch has not been executed yet");
+            }
+            return future.join();
+        }
+    }
+}
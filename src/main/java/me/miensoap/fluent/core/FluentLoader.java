@@ -0,0 +1,230 @@
+package me.miensoap.fluent.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Batches single-row lookups by key, in the manner of a DataLoader. Instead of one
+ * {@code where(key).equalTo(x).fetchOne()} per key, callers {@link #load(Object) load} keys and receive
+ * futures, and {@link #dispatch()} resolves all pending keys with one {@code in} query:
+ * <pre>{@code
+ * FluentLoader<Member, String> byEmail = memberRepository.query().loader(Member::getEmail);
+ * List<CompletableFuture<Optional<Member>>> members = emails.stream().map(byEmail::load).toList();
+ * byEmail.dispatch();
+ * }</pre>
+ * The predicates of the query the loader was created from restrict every lookup; later changes to that
+ * query do not affect the loader. Loading a key that is already pending returns the same future. Keys
+ * are dispatched when {@link #maxBatchSize(int) maxBatchSize} of them are pending, when
+ * {@link #dispatch()} or {@link #close()} is called (so a try-with-resources block scopes a batch),
+ * before the transaction they were loaded in commits, and when a returned future is waited on with
+ * {@code join} or {@code get}.
+ * <p>
+ * Batching needs the keys to be loaded before any of them is waited on. A loop that calls
+ * {@code load(key).join()} per key dispatches each key on its own and still issues one query per key;
+ * load all keys first, or compose the futures without blocking.
+ * <p>
+ * Rows are matched to keys by the key column the database returns next to each entity, so chained keys
+ * such as {@code m -> m.getTeam().getCode()} do not initialize associations.
+ */
+public final class FluentLoader<T, K> implements AutoCloseable {
+
+    private final FluentQuery<T> base;
+    private final String key;
+    private int maxBatchSize;
+    private Map<K, Lookup> pending = new LinkedHashMap<>();
+
+    FluentLoader(@NotNull FluentQuery<T> query, @NotNull Property<T, K> key) {
+        Objects.requireNonNull(key, "Key property must not be null");
+        this.base = query.copy();
+        this.key = PropertyNameResolver.resolve(key);
+        this.maxBatchSize = query.inListChunkSize();
+    }
+
+    /**
+     * @param maxBatchSize number of pending keys that triggers an immediate dispatch
+     */
+    @NotNull
+    public synchronized FluentLoader<T, K> maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Queues a lookup. The future completes with the matching row, or empty when there is none, once
+     * the loader is dispatched; it fails with {@link IncorrectResultSizeDataAccessException} when
+     * several rows share the key.
+     */
+    @NotNull
+    public CompletableFuture<Optional<T>> load(@NotNull K value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        Lookup result;
+        boolean full;
+        synchronized (this) {
+            result = pending.computeIfAbsent(value, ignored -> new Lookup());
+            full = pending.size() >= maxBatchSize;
+        }
+        if (full) {
+            dispatch();
+        } else {
+            dispatchBeforeCommit();
+        }
+        return result;
+    }
+
+    /**
+     * Dispatches the keys still pending, so a try-with-resources block around the {@link #load(Object)}
+     * calls resolves them when it ends.
+     */
+    @Override
+    public void close() {
+        dispatch();
+    }
+
+    /**
+     * Resolves all pending keys with one query. If the query fails, every pending future fails with
+     * the same exception, which is also rethrown.
+     * <p>
+     * When the database returns a key that equals none of the requested ones (e.g. under a
+     * case-insensitive collation), the lookups left without a row fail with an
+     * {@link IllegalStateException} instead of reporting a row as missing.
+     */
+    @SuppressWarnings("unchecked")
+    public void dispatch() {
+        Map<K, Lookup> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        List<Tuple> rows;
+        try {
+            rows = base.copy().and(key).in(new ArrayList<>(batch.keySet())).fetchKeyed(key);
+        } catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        }
+        Map<Object, Set<T>> byKey = new HashMap<>();
+        List<Object> unmatched = new ArrayList<>();
+        for (Tuple row : rows) {
+            Object value = row.get(1);
+            if (!batch.containsKey(value)) {
+                unmatched.add(value);
+                continue;
+            }
+            byKey.computeIfAbsent(value, ignored -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add((T) row.get(0));
+        }
+        batch.forEach((value, future) -> {
+            Set<T> matches = byKey.getOrDefault(value, Set.of());
+            if (matches.size() > 1) {
+                future.completeExceptionally(new IncorrectResultSizeDataAccessException(1, matches.size()));
+            } else if (matches.isEmpty() && !unmatched.isEmpty()) {
+                future.completeExceptionally(new IllegalStateException("Key '" + value + "' matched no returned row,"
+                    + " but the database returned keys " + unmatched + " that equal no requested key;"
+                    + " the column's collation or type does not match the key's equals()"));
+            } else {
+                future.complete(matches.stream().findFirst());
+            }
+        });
+    }
+
+    /**
+     * Inside a transaction, keys still pending when it commits are dispatched right before the commit,
+     * while its persistence context is open, so futures composed without blocking still complete.
+     */
+    private void dispatchBeforeCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(FluentLoader.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(FluentLoader.this, Boolean.TRUE);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                try {
+                    dispatch();
+                } catch (RuntimeException e) {
+                    // already delivered to the pending lookups; the transaction itself did not fail
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(FluentLoader.this);
+            }
+        });
+    }
+
+    /**
+     * Pending lookup whose blocking accessors dispatch the loader first, so waiting on a lookup cannot
+     * hang. Stages derived from it do not dispatch.
+     */
+    private final class Lookup extends CompletableFuture<Optional<T>> {
+
+        @Override
+        public Optional<T> join() {
+            dispatchIfPending();
+            return super.join();
+        }
+
+        @Override
+        public Optional<T> get() throws InterruptedException, ExecutionException {
+            dispatchIfPending();
+            return super.get();
+        }
+
+        @Override
+        public Optional<T> get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+            dispatchIfPending();
+            return super.get(timeout, unit);
+        }
+
+        private void dispatchIfPending() {
+            if (isDone()) {
+                return;
+            }
+            try {
+                dispatch();
+            } catch (RuntimeException e) {
+                // already delivered to this lookup, which rethrows it from the accessor
+            }
+        }
+    }
+}
@@ -1,35 +1,101 @@
 package me.miensoap.fluent.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.ManagedType;
 
 /**
  * Builder that composes Specifications through a fluent API.
  */
 public class FluentQuery<T> {
 
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+    private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
     private final JpaSpecificationExecutor<T> executor;
+    private final FluentQueryContext<T> context;
     private final List<FetchJoinDescriptor> fetchJoins = new ArrayList<>();
     private final List<Sort.Order> orderings = new ArrayList<>();
+    private final Function<String, JoinType> predicateJoinTypes = prefix -> joinTypeFor(prefix, JoinType.INNER);
+    private final Function<String, JoinType> outerJoinTypes = prefix -> joinTypeFor(prefix, JoinType.LEFT);
     private Specification<T> spec;
+    private QueryShape.Predicate predicateShape;
+    private long predicateFingerprint = QueryShape.none();
+    private final List<Object> boundValues = new ArrayList<>();
+    private boolean opaque;
+    private boolean parameterized;
+    private Duration cacheTtl;
+    private boolean coalesced;
     private boolean distinct;
+    private boolean parallelCount;
+    private int inListChunkSize = InLists.DEFAULT_CHUNK_SIZE;
 
     public FluentQuery(@NotNull JpaSpecificationExecutor<T> executor) {
+        this(executor, null);
+    }
+
+    public FluentQuery(@NotNull JpaSpecificationExecutor<T> executor, @Nullable FluentQueryContext<T> context) {
         this.executor = executor;
+        this.context = context;
     }
 
     @NotNull
@@ -43,9 +109,20 @@ public class FluentQuery<T> {
         return new FieldStep<>(this, field, false, PropertyNameResolver.resolveType(property));
     }
 
+    @NotNull
+    public <R> FieldStep<T> where(@NotNull PropertyPath<T, R> path) {
+        return new FieldStep<>(this, path.path(), false, path.type());
+    }
+
     @NotNull
     public FluentQuery<T> where(@Nullable Specification<T> specification) {
-        this.spec = specification == null ? null : Specification.where(specification);
+        this.spec = null;
+        this.predicateShape = null;
+        this.predicateFingerprint = QueryShape.none();
+        this.boundValues.clear();
+        this.opaque = false;
+        this.parameterized = false;
+        addCondition(specification, false);
         return this;
     }
 
@@ -60,6 +137,11 @@ public class FluentQuery<T> {
         return new FieldStep<>(this, field, false, PropertyNameResolver.resolveType(property));
     }
 
+    @NotNull
+    public <R> FieldStep<T> and(@NotNull PropertyPath<T, R> path) {
+        return new FieldStep<>(this, path.path(), false, path.type());
+    }
+
     @NotNull
     public FluentQuery<T> and(@Nullable Specification<T> specification) {
         addCondition(specification, false);
@@ -77,6 +159,11 @@ public class FluentQuery<T> {
         return new FieldStep<>(this, field, true, PropertyNameResolver.resolveType(property));
     }
 
+    @NotNull
+    public <R> FieldStep<T> or(@NotNull PropertyPath<T, R> path) {
+        return new FieldStep<>(this, path.path(), true, path.type());
+    }
+
     @NotNull
     public FluentQuery<T> or(@Nullable Specification<T> specification) {
         addCondition(specification, true);
@@ -87,6 +174,8 @@ public class FluentQuery<T> {
     public FluentQuery<T> not() {
         if (spec != null) {
             spec = Specification.not(spec);
+            predicateShape = new QueryShape.Not(predicateShape);
+            predicateFingerprint = QueryShape.not(predicateFingerprint);
         }
         return this;
     }
@@ -118,6 +207,81 @@ public class FluentQuery<T> {
         return registerFetchJoin(path, joinType);
     }
 
+    @NotNull
+    public <R> FluentQuery<T> fetchJoin(@NotNull PropertyPath<T, R> path) {
+        return fetchJoin(path.path());
+    }
+
+    @NotNull
+    public <R> FluentQuery<T> fetchJoin(@NotNull PropertyPath<T, R> path, @NotNull JoinType joinType) {
+        return registerFetchJoin(path.path(), joinType);
+    }
+
+    /**
+     * Maximum number of bind parameters per {@code in}/{@code notIn} list; longer lists are split
+     * into several lists combined with OR (AND for {@code notIn}) within the same statement, so the
+     * statement's total parameter count is unchanged. Defaults to 1000.
+     */
+    @NotNull
+    public FluentQuery<T> inListChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("IN list chunk size must be positive");
+        }
+        this.inListChunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Runs the count query of {@link #fetch(Pageable)} concurrently with the content query on a
+     * virtual thread and a separate read-only EntityManager. Only worth it when both queries are
+     * slow, and only consistent for data committed before the call.
+     */
+    @NotNull
+    public FluentQuery<T> countInParallel() {
+        this.parallelCount = true;
+        return this;
+    }
+
+    /**
+     * Serves the terminals of this query from the context's {@link FluentQueryCache} for up to
+     * {@code ttl}, keyed on the query shape plus its bound values. Entries are dropped earlier when
+     * entities the query reads change through JPA. Queries that contain a plain {@link Specification}
+     * have no inspectable values and always run against the database.
+     * <p>
+     * Inside a read-write transaction the cache is bypassed, so the transaction sees its own changes and
+     * never publishes them before they are committed. Where an EntityManager is bound to the thread
+     * otherwise (read-only transactions, open-in-view), misses are loaded on the context's executor in
+     * a separate read-only transaction, so cached entities are always detached.
+     * <p>
+     * Cached results are shared between callers and must be treated as read-only.
+     */
+    @NotNull
+    public FluentQuery<T> cached(@NotNull Duration ttl) {
+        Objects.requireNonNull(ttl, "TTL must not be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (requireContext("Caching").cache() == null) {
+            throw new IllegalStateException("Caching requires a FluentQueryContext with a FluentQueryCache");
+        }
+        this.cacheTtl = ttl;
+        return this;
+    }
+
+    /**
+     * Lets concurrent executions of this query with the same shape, values and terminal arguments share
+     * one database call: the first caller runs it and the others wait for its result. Only applies
+     * where every call would run in its own short-lived EntityManager anyway, i.e. outside transactions
+     * and without an EntityManager bound to the thread (such as open-in-view), so shared entities are
+     * always detached. Shared lists and maps are read-only.
+     */
+    @NotNull
+    public FluentQuery<T> coalesced() {
+        requireContext("Coalescing");
+        this.coalesced = true;
+        return this;
+    }
+
     @NotNull
     public OrderStep<T> orderBy(@NotNull String field) {
         return new OrderStep<>(this, field);
@@ -129,73 +293,959 @@ public class FluentQuery<T> {
     }
 
     @NotNull
-    public List<T> fetch() {
-        Sort sort = buildSort();
-        if (sort.isUnsorted()) {
-            return executor.findAll(currentSpec());
+    public <R> OrderStep<T> orderBy(@NotNull PropertyPath<T, R> path) {
+        return new OrderStep<>(this, path.path());
+    }
+
+    @SafeVarargs
+    @NotNull
+    public final SelectStep<T> select(@NotNull Property<T, ?>... properties) {
+        List<String> fields = new ArrayList<>(properties.length);
+        for (Property<T, ?> property : properties) {
+            fields.add(PropertyNameResolver.resolve(property));
         }
-        return executor.findAll(currentSpec(), sort);
+        return new SelectStep<>(this, fields);
+    }
+
+    @NotNull
+    public SelectStep<T> select(@NotNull String... fields) {
+        return new SelectStep<>(this, List.of(fields));
+    }
+
+    /**
+     * Freezes the current predicates, orderings and fetch joins into a reusable template whose
+     * {@link Param parameters} are bound on each execution. The criteria queries are built once, so
+     * every execution renders the same SQL. Executions are observed, {@link #cached(Duration) cached}
+     * and {@link #coalesced() coalesced} like the terminals of this query, keyed by their arguments.
+     */
+    @NotNull
+    public FluentTemplate<T> compile() {
+        FluentQueryContext<T> current = requireContext("Templates");
+        CriteriaBuilder cb = current.entityManagerFactory().getCriteriaBuilder();
+        return new FluentTemplate<>(copy(), contentCriteria(cb, currentSpec(buildSort())), countCriteria(cb, currentSpec()));
+    }
+
+    @NotNull
+    public List<T> fetch() {
+        return execute("fetch", null, () -> executor.findAll(currentSpec(buildSort())), List::size);
     }
 
     @NotNull
     public List<T> fetch(@Nullable Sort sort) {
         Sort combined = sort == null ? buildSort() : buildSort().and(sort);
-        if (combined.isUnsorted()) {
-            return executor.findAll(currentSpec());
-        }
-        return executor.findAll(currentSpec(), combined);
+        return execute("fetch", combined, () -> executor.findAll(currentSpec(combined)), List::size);
     }
 
+    /**
+     * Pages through the results. Sorting is rendered by the fluent query itself so that sort
+     * expressions reuse the joins of predicates and fetch joins; the returned page still reports
+     * the requested {@link Pageable}.
+     * <p>
+     * When a collection is fetch joined and a {@link FluentQueryContext} is available, the page is
+     * loaded in two phases (root ids first, then the entities with their fetches) so the database
+     * applies the limit instead of Hibernate paginating the whole result in memory.
+     */
     @NotNull
     public Page<T> fetch(@NotNull Pageable pageable) {
+        return execute("fetchPage", pageable, () -> fetchPage(pageable), Page::getNumberOfElements);
+    }
+
+    private Page<T> fetchPage(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<T> content = executor.findAll(currentSpec(pageable.getSort().and(buildSort())));
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        pageable = withOrderings(pageable);
+        boolean byIds = pagesByIds();
+        if (parallelCount && context != null) {
+            return fetchPageWithParallelCount(pageable, byIds);
+        }
+        if (byIds) {
+            Specification<T> countSpec = distinctRoots();
+            return PageableExecutionUtils.getPage(loadPageByIds(pageable), pageable, () -> executor.count(countSpec));
+        }
+        Page<T> page = executor.findAll(currentSpec(pageable.getSort()),
+            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return new PageImpl<>(page.getContent(), pageable, page.getTotalElements());
+    }
+
+    /**
+     * Loads one more row than the page size to tell whether another slice follows, so no count
+     * query is issued. Without a {@link FluentQueryContext} this falls back to {@link #fetch(Pageable)}.
+     */
+    @NotNull
+    public Slice<T> fetchSlice(@NotNull Pageable pageable) {
+        return execute("fetchSlice", pageable, () -> fetchSliceOf(pageable), Slice::getNumberOfElements);
+    }
+
+    private Slice<T> fetchSliceOf(Pageable pageable) {
+        if (context == null || pageable.isUnpaged()) {
+            Page<T> page = fetchPage(pageable);
+            return new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext());
+        }
+        pageable = withOrderings(pageable);
+        int size = pageable.getPageSize();
+        List<T> rows;
+        if (pagesByIds()) {
+            JpaEntityInformation<T, ?> information = context.entityInformation();
+            String idAttribute = information.getRequiredIdAttribute().getName();
+            List<Object> ids = selectPageIds(spec, pageable, idAttribute, size + 1);
+            List<Object> pageIds = ids.size() > size ? ids.subList(0, size) : ids;
+            rows = pageIds.isEmpty() ? List.of() : loadInOrder(pageIds, idAttribute, information);
+            return new SliceImpl<>(rows, pageable, ids.size() > size);
+        }
+        rows = createQuery(currentSpec(pageable.getSort()))
+            .setFirstResult(Math.toIntExact(pageable.getOffset()))
+            .setMaxResults(size + 1)
+            .getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+    /**
+     * Keyset (seek) pagination over the collected orderings. The entity id is appended as a unique
+     * tiebreaker, so every window costs the same regardless of how deep it is.
+     *
+     * @param position continuation returned by {@link Window#positionAt(int)} of the previous window,
+     *                 or {@code null} for the first window
+     */
+    @NotNull
+    public Window<T> fetchAfter(@Nullable ScrollPosition position, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        ScrollPosition start = position == null ? ScrollPosition.keyset() : position;
         Sort sort = buildSort();
-        if (!sort.isUnsorted()) {
-            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(sort));
+        return execute("fetchAfter", List.of(start, limit), () -> executor.findBy(Specification.where(currentSpec()),
+            query -> query.sortBy(sort).limit(limit).scroll(start)), Window::size);
+    }
+
+    /**
+     * {@link #stream(int)} with a fetch size of {@value #DEFAULT_STREAM_FETCH_SIZE}. Queries without a
+     * {@link FluentQueryContext} stream through the executor instead, without fetch size or detaching.
+     */
+    @NotNull
+    public Stream<T> stream() {
+        if (context == null) {
+            requireValues("stream");
+            return executor.findBy(Specification.where(currentSpec(buildSort())), query -> query.stream());
         }
-        return executor.findAll(currentSpec(), pageable);
+        return stream(DEFAULT_STREAM_FETCH_SIZE);
+    }
+
+    /**
+     * Streams the results through a forward-only cursor instead of materializing a list.
+     * <p>
+     * The rows are read with the given JDBC fetch size as read-only entities of a persistence context
+     * the stream opens for itself, and every {@code fetchSize} entities the ones the stream has moved
+     * past are detached so it stays small. Entities the caller already manages are never touched.
+     * Inside a transaction the stream shares its connection and sees its flushed changes. The stream
+     * holds a database cursor and must be closed.
+     */
+    @NotNull
+    public Stream<T> stream(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        FluentQueryContext<T> current = requireContext("Streaming with a fetch size");
+        requireValues("stream");
+        EntityManager entityManager = current.openSeparateEntityManager();
+        try {
+            return stream(entityManager, Specification.where(currentSpec(buildSort())), fetchSize)
+                .onClose(entityManager::close);
+        } catch (RuntimeException e) {
+            entityManager.close();
+            throw e;
+        }
+    }
+
+    private Stream<T> stream(EntityManager entityManager, Specification<T> specification, int fetchSize) {
+        Stream<T> results = entityManager.createQuery(contentCriteria(entityManager.getCriteriaBuilder(), specification))
+            .setHint(FETCH_SIZE_HINT, fetchSize)
+            .setHint(READ_ONLY_HINT, true)
+            .getResultStream();
+        return results.map(new BatchDetacher<>(entityManager, fetchSize));
+    }
+
+    /**
+     * Hands every result to {@code consumer} while streaming them in batches of {@code batchSize}.
+     * Entities are read-only and detached after they were processed, so changes are not flushed.
+     * Needs a {@link FluentQueryContext}, like {@link #stream(int)}.
+     */
+    public void forEach(int batchSize, @NotNull Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer, "Consumer must not be null");
+        try (Stream<T> results = stream(batchSize)) {
+            results.forEach(consumer);
+        }
+    }
+
+    /**
+     * Walks all matching rows in primary key order, {@code size} entities at a time, seeking with
+     * {@code id > lastId} so every chunk costs the same. Before the next chunk is loaded the
+     * persistence context is flushed (inside a transaction) and cleared, so memory stays constant.
+     * Orderings of this query are ignored.
+     */
+    @NotNull
+    public Iterable<List<T>> batches(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        requireContext("Batch iteration");
+        requireValues("batches");
+        return () -> new BatchIterator(size);
     }
 
     @NotNull
     public Optional<T> fetchOne() {
-        return executor.findOne(currentSpec());
+        return execute("fetchOne", null, () -> executor.findOne(currentSpec()), result -> result.isPresent() ? 1 : 0);
     }
 
     public long count() {
-        return executor.count(currentSpec());
+        return execute("count", null, () -> executor.count(currentSpec()), result -> 1);
     }
 
+    /**
+     * Probes for a single matching row ({@code select 1 ... fetch first 1 rows}) instead of counting.
+     */
     public boolean exists() {
+        return execute("exists", null, () -> executor.exists(Specification.where(currentSpec())), result -> 1);
+    }
+
+    /**
+     * Runs {@link #fetch()} on the context's executor (virtual threads by default) in its own read-only
+     * transaction, so independent queries can be awaited together. The returned entities are detached.
+     * The query must not be modified until the future completes.
+     */
+    @NotNull
+    public CompletableFuture<List<T>> fetchAsync() {
+        return async(this::fetch);
+    }
+
+    /**
+     * Asynchronous {@link #fetch(Pageable)}; see {@link #fetchAsync()}.
+     */
+    @NotNull
+    public CompletableFuture<Page<T>> fetchAsync(@NotNull Pageable pageable) {
+        return async(() -> fetch(pageable));
+    }
+
+    /**
+     * Asynchronous {@link #fetchOne()}; see {@link #fetchAsync()}.
+     */
+    @NotNull
+    public CompletableFuture<Optional<T>> fetchOneAsync() {
+        return async(this::fetchOne);
+    }
+
+    /**
+     * Asynchronous {@link #count()}; see {@link #fetchAsync()}.
+     */
+    @NotNull
+    public CompletableFuture<Long> countAsync() {
+        return async(this::count);
+    }
+
+    /**
+     * Asynchronous {@link #exists()}; see {@link #fetchAsync()}.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> existsAsync() {
+        return async(this::exists);
+    }
+
+    <R> CompletableFuture<R> async(Supplier<R> terminal) {
+        FluentQueryContext<T> current = requireContext("Asynchronous terminals");
+        return CompletableFuture.supplyAsync(() -> current.inReadOnlyTransaction(terminal), current.executor());
+    }
+
+    /**
+     * Creates a loader that batches single-row lookups by {@code key} on top of this query's predicates:
+     * keys requested through {@link FluentLoader#load(Object)} are resolved together with one
+     * {@code in} query when the loader is dispatched.
+     */
+    @NotNull
+    public <K> FluentLoader<T, K> loader(@NotNull Property<T, K> key) {
+        return new FluentLoader<>(this, key);
+    }
+
+    /**
+     * Loads the matching entities paired with the value of {@code keyField} as read by the database, so
+     * callers can match rows to keys without navigating the entities.
+     */
+    List<Tuple> fetchKeyed(String keyField) {
+        CriteriaBuilder cb = requireContext("Loaders").entityManager().getCriteriaBuilder();
+        return execute("fetchKeyed", keyField, List.of(keyField), () -> {
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<T> root = query.from(context.domainType());
+            fetchJoins.forEach(fetch -> fetch.apply(root));
+            Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+            query.multiselect(root, AttributePath.of(keyField).resolve(root, predicateJoinTypes)).distinct(distinct);
+            return context.entityManager().createQuery(query).getResultList();
+        }, List::size);
+    }
+
+    <R> List<R> fetchProjection(Class<R> type, List<String> fields) {
+        CriteriaBuilder cb = requireContext("Projections").entityManager().getCriteriaBuilder();
+        return execute("fetchAs", List.of(type, fields), fields, () -> {
+            CriteriaQuery<R> query = cb.createQuery(type);
+            Root<T> root = restrict(query, currentSpec(buildSort()));
+            query.select(cb.construct(type, selections(root, fields, false).toArray(Selection<?>[]::new)));
+            return context.entityManager().createQuery(query).getResultList();
+        }, List::size);
+    }
+
+    List<Tuple> fetchTuples(List<String> fields) {
+        CriteriaBuilder cb = requireContext("Projections").entityManager().getCriteriaBuilder();
+        return execute("fetchTuples", fields, fields, () -> {
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<T> root = restrict(query, currentSpec(buildSort()));
+            query.multiselect(selections(root, fields, true));
+            return context.entityManager().createQuery(query).getResultList();
+        }, List::size);
+    }
+
+    /**
+     * Selected attributes reuse the joins of the predicates, so they see the same rows as
+     * {@link #fetch()}; associations no predicate navigates are outer joined so rows without them are kept.
+     */
+    private List<Selection<?>> selections(Root<T> root, List<String> fields, boolean aliased) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one attribute must be selected");
+        }
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            AttributePath attributePath = AttributePath.of(field);
+            Path<?> path = attributePath.resolve(root, outerJoinTypes);
+            selections.add(aliased ? path.alias(attributePath.path()) : path);
+        }
+        return selections;
+    }
+
+    private TypedQuery<T> createQuery(@Nullable Specification<T> specification) {
+        return context.entityManager().createQuery(contentCriteria(context.entityManager().getCriteriaBuilder(), specification));
+    }
+
+    private CriteriaQuery<T> contentCriteria(CriteriaBuilder cb, @Nullable Specification<T> specification) {
+        CriteriaQuery<T> query = cb.createQuery(context.domainType());
+        Root<T> root = query.from(context.domainType());
+        query.select(root);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return query;
+    }
+
+    /**
+     * Adds the root and applies the predicates before any selection is built, so selections and group
+     * keys reuse the joins of the predicates instead of the other way round.
+     */
+    private <R> Root<T> restrict(CriteriaQuery<R> query, @Nullable Specification<T> specification) {
+        Root<T> root = query.from(context.domainType());
+        Predicate predicate = specification == null
+            ? null
+            : specification.toPredicate(root, query, context.entityManager().getCriteriaBuilder());
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return root;
+    }
+
+    FluentQueryContext<T> requireContext(String operation) {
+        if (context == null) {
+            throw new IllegalStateException(operation + " require a FluentQueryContext;"
+                + " create the query through FluentRepository.query() or pass a context explicitly");
+        }
+        return context;
+    }
+
+    private boolean pagesByIds() {
+        if (context == null || fetchJoins.isEmpty() || context.entityInformation().hasCompositeId()) {
+            return false;
+        }
+        ManagedType<T> model = context.entityManagerFactory().getMetamodel().managedType(context.domainType());
+        for (FetchJoinDescriptor fetchJoin : fetchJoins) {
+            if (fetchJoin.fetchesCollection(model)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Pageable withOrderings(Pageable pageable) {
+        Sort sort = buildSort();
+        if (sort.isUnsorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(sort));
+    }
+
+    private List<T> loadPageByIds(Pageable pageable) {
+        JpaEntityInformation<T, ?> information = context.entityInformation();
+        String idAttribute = information.getRequiredIdAttribute().getName();
+        List<Object> ids = selectPageIds(spec, pageable, idAttribute, pageable.getPageSize());
+        return ids.isEmpty() ? List.of() : loadInOrder(ids, idAttribute, information);
+    }
+
+    private Specification<T> distinctRoots() {
+        Specification<T> base = spec;
+        return (root, query, cb) -> {
+            query.distinct(true);
+            return base == null ? null : base.toPredicate(root, query, cb);
+        };
+    }
+
+    /**
+     * Runs the count on the context's executor with its own EntityManager while the content is read
+     * on the calling thread. The count therefore uses a separate connection and does not see changes
+     * of the caller's uncommitted transaction.
+     */
+    private Page<T> fetchPageWithParallelCount(Pageable pageable, boolean byIds) {
+        Specification<T> countSpec = byIds ? distinctRoots() : currentSpec();
+        CompletableFuture<Long> total = CompletableFuture.supplyAsync(() -> countDetached(countSpec), context.executor());
+        List<T> content = byIds
+            ? loadPageByIds(pageable)
+            : createQuery(currentSpec(pageable.getSort()))
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return new PageImpl<>(content, pageable, await(total));
+    }
+
+    private long countDetached(@Nullable Specification<T> specification) {
+        EntityManager entityManager = context.entityManagerFactory().createEntityManager();
+        try {
+            return entityManager.createQuery(countCriteria(entityManager.getCriteriaBuilder(), specification))
+                .setHint(READ_ONLY_HINT, true)
+                .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private CriteriaQuery<Long> countCriteria(CriteriaBuilder cb, @Nullable Specification<T> specification) {
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(context.domainType());
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return query;
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                RuntimeException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(failure);
+                throw translated != null ? translated : failure;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Selects the distinct root ids of the page. Sort expressions are part of the selection so the
+     * distinct query stays valid when ordering by joined attributes.
+     */
+    private List<Object> selectPageIds(@Nullable Specification<T> filter, Pageable pageable, String idAttribute, int limit) {
+        EntityManager entityManager = context.entityManager();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(context.domainType());
+        Predicate predicate = filter == null ? null : filter.toPredicate(root, query, cb);
+        List<Order> orders = toOrders(pageable.getSort(), root, cb);
+        List<Selection<?>> selections = new ArrayList<>(orders.size() + 1);
+        selections.add(root.get(idAttribute));
+        orders.forEach(order -> selections.add(order.getExpression()));
+        query.multiselect(selections).distinct(true).orderBy(orders);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(pageable.getOffset()))
+            .setMaxResults(limit)
+            .getResultList()
+            .stream()
+            .map(tuple -> tuple.get(0))
+            .toList();
+    }
+
+    private List<T> loadInOrder(List<Object> ids, String idAttribute, JpaEntityInformation<T, ?> information) {
+        List<T> loaded = executor.findAll((root, query, cb) -> {
+            fetchJoins.forEach(fetch -> fetch.apply(root));
+            return root.get(idAttribute).in(ids);
+        });
+        Map<Object, T> byId = new HashMap<>(loaded.size() * 2);
+        for (T entity : loaded) {
+            byId.putIfAbsent(information.getId(entity), entity);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Sum computed by the database; empty when no row matches. Integral attributes sum to {@code Long}.
+     */
+    @NotNull
+    public Optional<Number> sum(@NotNull Property<T, ? extends Number> property) {
+        String field = PropertyNameResolver.resolve(property);
+        return Optional.ofNullable(aggregate("sum", field, Number.class, (root, cb) -> cb.sum(numericPath(root, field))));
+    }
+
+    @NotNull
+    public Optional<Double> avg(@NotNull Property<T, ? extends Number> property) {
+        String field = PropertyNameResolver.resolve(property);
+        return Optional.ofNullable(aggregate("avg", field, Double.class, (root, cb) -> cb.avg(numericPath(root, field))));
+    }
+
+    @NotNull
+    public <R extends Comparable<? super R>> Optional<R> min(@NotNull Property<T, R> property) {
+        String field = PropertyNameResolver.resolve(property);
+        return Optional.ofNullable(this.<R>extreme("min", field, false));
+    }
+
+    @NotNull
+    public <R extends Comparable<? super R>> Optional<R> max(@NotNull Property<T, R> property) {
+        String field = PropertyNameResolver.resolve(property);
+        return Optional.ofNullable(this.<R>extreme("max", field, true));
+    }
+
+    /**
+     * Groups the matching rows by the given attribute; the terminals of the returned step evaluate
+     * one aggregate per group in the database and return it keyed by group value.
+     */
+    @NotNull
+    public <K> GroupStep<T, K> groupBy(@NotNull Property<T, K> property) {
+        return new GroupStep<>(this, PropertyNameResolver.resolve(property));
+    }
+
+    @NotNull
+    public GroupStep<T, Object> groupBy(@NotNull String field) {
+        return new GroupStep<>(this, AttributePath.of(field).path());
+    }
+
+    <R> R aggregate(String operation, String field, Class<R> type,
+                    BiFunction<Root<T>, CriteriaBuilder, Expression<? extends R>> selection) {
+        CriteriaBuilder cb = requireContext("Aggregates").entityManager().getCriteriaBuilder();
+        return execute(operation, field, List.of(field), () -> {
+            CriteriaQuery<R> query = cb.createQuery(type);
+            Root<T> root = restrict(query, currentSpec());
+            query.select(selection.apply(root, cb));
+            return context.entityManager().createQuery(query).getSingleResult();
+        }, result -> 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    <K, V> Map<K, V> groupAggregate(String operation, String keyField, @Nullable String valueField,
+                                    BiFunction<Root<T>, CriteriaBuilder, Expression<?>> aggregate) {
+        CriteriaBuilder cb = requireContext("Aggregates").entityManager().getCriteriaBuilder();
+        List<String> fields = valueField == null ? List.of(keyField) : List.of(keyField, valueField);
+        return execute(operation, fields, fields, () -> {
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<T> root = restrict(query, currentSpec());
+            Path<?> key = AttributePath.of(keyField).resolve(root, outerJoinTypes);
+            query.multiselect(key, aggregate.apply(root, cb))
+                .groupBy(key)
+                .orderBy(cb.asc(key));
+            Map<K, V> groups = new LinkedHashMap<>();
+            for (Tuple row : context.entityManager().createQuery(query).getResultList()) {
+                groups.put((K) row.get(0), (V) row.get(1));
+            }
+            return groups;
+        }, Map::size);
+    }
+
+    <N extends Number> Path<N> numericPath(Root<T> root, String field) {
+        return AttributePath.of(field).resolve(root, predicateJoinTypes);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <R> R extreme(String operation, String field, boolean greatest) {
+        return (R) aggregate(operation, field, Object.class, (root, cb) -> {
+            Path<Comparable> path = AttributePath.of(field).resolve(root, predicateJoinTypes);
+            return greatest ? cb.greatest(path) : cb.least(path);
+        });
+    }
+
+    /**
+     * Starts a bulk update of all rows matching the current predicates.
+     */
+    @NotNull
+    public UpdateStep<T> update() {
+        return new UpdateStep<>(this);
+    }
+
+    /**
+     * Deletes all rows matching the current predicates with a single statement and returns the number
+     * of deleted rows. Like any JPA bulk operation it needs a transaction, bypasses cascades and
+     * lifecycle callbacks, and does not touch entities already loaded in the persistence context.
+     */
+    public int delete() {
+        CriteriaBuilder cb = requireContext("Bulk delete").entityManager().getCriteriaBuilder();
+        CriteriaDelete<T> delete = cb.createCriteriaDelete(context.domainType());
+        Root<T> root = delete.from(context.domainType());
+        Predicate restriction = bulkRestriction(delete, root, cb);
+        if (restriction != null) {
+            delete.where(restriction);
+        }
+        return executeBulk("delete", context.entityManager().createQuery(delete));
+    }
+
+    int executeUpdate(List<UpdateStep.Assignment> assignments) {
+        CriteriaBuilder cb = requireContext("Bulk update").entityManager().getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(context.domainType());
+        Root<T> root = update.from(context.domainType());
+        for (UpdateStep.Assignment assignment : assignments) {
+            Path<Object> path = AttributePath.of(assignment.field()).resolve(root, predicateJoinTypes);
+            update.set(path, assignment.value());
+        }
+        Predicate restriction = bulkRestriction(update, root, cb);
+        if (restriction != null) {
+            update.where(restriction);
+        }
+        return executeBulk("update", context.entityManager().createQuery(update));
+    }
+
+    void requireAssignable(AttributePath path) {
+        FluentQueryContext<T> current = requireContext("Bulk update");
+        ManagedType<T> model = current.entityManagerFactory().getMetamodel().managedType(current.domainType());
+        if (path.navigatesAssociation(model)) {
+            throw new IllegalArgumentException("Bulk update cannot assign '" + path + "' of "
+                + current.domainType().getSimpleName() + ": the path navigates an association");
+        }
+    }
+
+    /**
+     * Bulk statements cannot join, so predicates that navigate associations restrict the statement
+     * through {@code id in (select id ... where <predicates>)} instead.
+     */
+    private Predicate bulkRestriction(CommonAbstractCriteria statement, Root<T> root, CriteriaBuilder cb) {
         Specification<T> base = spec;
-        return executor.count(base) > 0;
+        if (base == null) {
+            return null;
+        }
+        CriteriaQuery<T> probe = cb.createQuery(context.domainType());
+        Root<T> probeRoot = probe.from(context.domainType());
+        base.toPredicate(probeRoot, probe, cb);
+        if (probeRoot.getJoins().isEmpty()) {
+            return base.toPredicate(root, cb.createQuery(context.domainType()), cb);
+        }
+        String idAttribute = context.entityInformation().getRequiredIdAttribute().getName();
+        @SuppressWarnings("unchecked")
+        Class<Object> idType = (Class<Object>) context.entityInformation().getIdType();
+        Subquery<Object> ids = statement.subquery(idType);
+        Root<T> candidate = ids.from(context.domainType());
+        Predicate predicate = base.toPredicate(candidate, cb.createQuery(context.domainType()), cb);
+        ids.select(candidate.get(idAttribute));
+        if (predicate != null) {
+            ids.where(predicate);
+        }
+        return root.get(idAttribute).in(ids);
+    }
+
+    private int executeBulk(String operation, Query statement) {
+        requireValues(operation);
+        EntityManager entityManager = context.entityManager();
+        return observe(operation, () -> {
+            if (entityManager.isJoinedToTransaction()) {
+                entityManager.flush();
+            }
+            int affected = statement.executeUpdate();
+            FluentQueryCache cache = context.cache();
+            if (cache != null) {
+                cache.invalidate(context.domainType());
+            }
+            return affected;
+        }, affected -> affected);
     }
 
     protected void addCondition(Specification<T> newSpec, boolean isOr) {
+        if (newSpec != null) {
+            opaque = true;
+            addCondition(newSpec, isOr, new QueryShape.Custom(newSpec.getClass().getName()));
+        }
+    }
+
+    /**
+     * @param shape value-free description of the condition; its fingerprint is folded into the
+     *              running predicate fingerprint here, so {@link #shape()} never walks the tree
+     * @param values values bound by the condition, part of the cache key of {@link #cached(Duration) cached} queries
+     */
+    void addCondition(Specification<T> newSpec, boolean isOr, QueryShape.Predicate shape, Object... values) {
         if (newSpec == null) {
             return;
         }
+        for (Object value : values) {
+            boundValues.add(value instanceof Collection<?> collection ? new ArrayList<>(collection) : value);
+            parameterized |= value instanceof Param;
+        }
+        long fingerprint = QueryShape.leaf(shape);
         if (spec == null) {
             spec = Specification.where(newSpec);
+            predicateShape = shape;
+            predicateFingerprint = fingerprint;
             return;
         }
         spec = isOr ? spec.or(newSpec) : spec.and(newSpec);
+        predicateShape = isOr ? new QueryShape.Or(predicateShape, shape) : new QueryShape.And(predicateShape, shape);
+        predicateFingerprint = isOr
+            ? QueryShape.or(predicateFingerprint, fingerprint)
+            : QueryShape.and(predicateFingerprint, fingerprint);
+    }
+
+    /**
+     * Structure of this query without any bound value: predicates with their operators, orderings,
+     * fetch joins and distinct. Queries that differ only in values have equal shapes and fingerprints.
+     */
+    @NotNull
+    public QueryShape shape() {
+        List<QueryShape.Ordering> orderShapes = new ArrayList<>(orderings.size());
+        for (Sort.Order order : orderings) {
+            orderShapes.add(new QueryShape.Ordering(order.getProperty(), order.getDirection(), order.isIgnoreCase()));
+        }
+        List<QueryShape.FetchJoin> fetchShapes = new ArrayList<>(fetchJoins.size());
+        for (FetchJoinDescriptor fetchJoin : fetchJoins) {
+            fetchShapes.add(new QueryShape.FetchJoin(fetchJoin.path(), fetchJoin.joinType()));
+        }
+        return new QueryShape(predicateShape, predicateFingerprint, orderShapes, fetchShapes, distinct);
+    }
+
+    private <R> R execute(String operation, @Nullable Object arguments, Supplier<R> terminal,
+                          ToLongFunction<? super R> rows) {
+        return execute(operation, arguments, List.of(), terminal, rows);
+    }
+
+    /**
+     * Runs a terminal, through the cache when this query is {@link #cached(Duration) cached} and shared
+     * with concurrent identical executions when it is {@link #coalesced()}.
+     *
+     * @param arguments terminal arguments that change the result, part of the cache key
+     * @param paths     attribute paths the terminal reads besides those of the query shape
+     */
+    private <R> R execute(String operation, @Nullable Object arguments, List<String> paths, Supplier<R> terminal,
+                          ToLongFunction<? super R> rows) {
+        requireValues(operation);
+        return run(operation, arguments, paths, terminal, rows);
+    }
+
+    /**
+     * Runs a {@link FluentTemplate} execution, whose {@link Param parameters} the template binds itself.
+     */
+    <R> R executeTemplate(String operation, Map<String, ?> arguments, Supplier<R> terminal,
+                          ToLongFunction<? super R> rows) {
+        return run(operation, Collections.unmodifiableMap(new HashMap<>(arguments)), List.of(), terminal, rows);
+    }
+
+    private <R> R run(String operation, @Nullable Object arguments, List<String> paths, Supplier<R> terminal,
+                      ToLongFunction<? super R> rows) {
+        boolean bound = boundToThread();
+        boolean caching = cacheTtl != null && !inReadWriteTransaction();
+        boolean sharing = coalesced && !bound;
+        if (opaque || !(caching || sharing)) {
+            return observe(operation, terminal, rows);
+        }
+        QueryShape shape = shape();
+        QueryKey key = new QueryKey(context.domainType(), operation, shape,
+            Collections.unmodifiableList(new ArrayList<>(boundValues)), arguments);
+        Supplier<R> run = () -> readOnly(observe(operation, terminal, rows));
+        Supplier<R> load;
+        if (bound && !FluentQueryContext.inOwnTransaction()) {
+            load = () -> await(async(run));
+        } else if (sharing) {
+            load = () -> context.inFlight().join(key, run);
+        } else {
+            load = run;
+        }
+        if (!caching) {
+            return load.get();
+        }
+        return context.cache().get(key, cacheTtl, dependencies(shape, paths), load, rows);
+    }
+
+    /**
+     * Whether terminals would use an EntityManager bound to the current thread, whose entities must not
+     * be handed to other threads. Cached loads then run on another thread, unless the thread already
+     * runs inside the context's own read-only transaction, where hopping again could exhaust a bounded
+     * executor waiting on itself.
+     */
+    private boolean boundToThread() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.hasResource(context.entityManagerFactory());
+    }
+
+    /**
+     * {@link Param Parameters} are only bound by a {@link FluentTemplate}; running them directly would fail
+     * inside the provider with an unbound parameter.
+     */
+    private void requireValues(String operation) {
+        if (!parameterized) {
+            return;
+        }
+        List<Object> params = boundValues.stream().filter(Param.class::isInstance).toList();
+        throw new IllegalStateException(operation + " cannot run a query with template parameters " + params
+            + "; compile() it and execute the FluentTemplate with arguments instead");
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Entity types a cached result depends on: the domain type and every entity a path navigates into.
+     */
+    private Set<Class<?>> dependencies(QueryShape shape, List<String> paths) {
+        ManagedType<T> model = context.entityManagerFactory().getMetamodel().managedType(context.domainType());
+        Set<Class<?>> types = new HashSet<>();
+        types.add(context.domainType());
+        shape.forEachPath(path -> AttributePath.of(path).collectEntityTypes(model, types));
+        paths.forEach(path -> AttributePath.of(path).collectEntityTypes(model, types));
+        return Set.copyOf(types);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R readOnly(R result) {
+        if (result instanceof List<?> list) {
+            return (R) Collections.unmodifiableList(new ArrayList<>(list));
+        }
+        if (result instanceof Map<?, ?> map) {
+            return (R) Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        }
+        return result;
+    }
+
+    /**
+     * Runs a terminal and reports it to the context's observer. Without a context, or with the no-op
+     * observer, the terminal runs untimed.
+     */
+    private <R> R observe(String operation, Supplier<R> terminal, ToLongFunction<? super R> rows) {
+        FluentQueryObserver observer = context == null ? FluentQueryObserver.NOOP : context.observer();
+        if (observer == FluentQueryObserver.NOOP) {
+            return terminal.get();
+        }
+        long started = System.nanoTime();
+        R result;
+        try {
+            result = terminal.get();
+        } catch (RuntimeException e) {
+            observer.onExecution(new QueryExecution(context.domainType(), operation, shape(),
+                Duration.ofNanos(System.nanoTime() - started), 0, e));
+            throw e;
+        }
+        observer.onExecution(new QueryExecution(context.domainType(), operation, shape(),
+            Duration.ofNanos(System.nanoTime() - started), rows.applyAsLong(result), null));
+        return result;
     }
 
     private Specification<T> currentSpec() {
+        return currentSpec(Sort.unsorted());
+    }
+
+    /**
+     * Wraps the composed predicates with distinct, fetch joins and ordering. Fetch joins are
+     * applied first so that predicates and sort expressions on the same association reuse them,
+     * and only when the query selects the root entity (not for counts or projections).
+     */
+    private Specification<T> currentSpec(Sort sort) {
         Specification<T> base = spec;
-        if (!distinct && fetchJoins.isEmpty()) {
+        if (!distinct && fetchJoins.isEmpty() && sort.isUnsorted()) {
             return base;
         }
         return (root, query, cb) -> {
             if (distinct) {
                 query.distinct(true);
             }
-            if (!fetchJoins.isEmpty() && !isCountQuery(query)) {
+            boolean countQuery = isCountQuery(query);
+            if (!fetchJoins.isEmpty() && query.getResultType() == root.getJavaType()) {
                 fetchJoins.forEach(fetch -> fetch.apply(root));
             }
-            return base == null ? null : base.toPredicate(root, query, cb);
+            Predicate predicate = base == null ? null : base.toPredicate(root, query, cb);
+            if (sort.isSorted() && !countQuery) {
+                query.orderBy(toOrders(sort, root, cb));
+            }
+            return predicate;
         };
     }
 
+    /**
+     * Renders sort orders on attribute paths. Like Spring Data's own Criteria rendering, this supports
+     * neither {@link JpaSort#unsafe unsafe} expressions nor null handling, and rejects both explicitly.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Order> toOrders(Sort sort, Root<T> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (order instanceof JpaSort.JpaOrder jpaOrder && jpaOrder.isUnsafe()) {
+                throw new IllegalArgumentException("Unsafe sort expression '" + order.getProperty()
+                    + "' is not supported; sort by attribute paths");
+            }
+            if (order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                throw new IllegalArgumentException("Null handling " + order.getNullHandling() + " for '"
+                    + order.getProperty() + "' is not supported by Criteria queries");
+            }
+            Expression<?> expression = AttributePath.of(order.getProperty()).resolve(root, outerJoinTypes);
+            if (order.isIgnoreCase() && String.class.equals(expression.getJavaType())) {
+                expression = cb.lower((Expression<String>) expression);
+            }
+            orders.add(order.isAscending() ? cb.asc(expression) : cb.desc(expression));
+        }
+        return orders;
+    }
+
+    int inListChunkSize() {
+        return inListChunkSize;
+    }
+
+    /**
+     * Independent query with the same predicates, orderings, fetch joins and modifiers.
+     */
+    FluentQuery<T> copy() {
+        FluentQuery<T> copy = new FluentQuery<>(executor, context);
+        copy.fetchJoins.addAll(fetchJoins);
+        copy.orderings.addAll(orderings);
+        copy.spec = spec;
+        copy.predicateShape = predicateShape;
+        copy.predicateFingerprint = predicateFingerprint;
+        copy.boundValues.addAll(boundValues);
+        copy.opaque = opaque;
+        copy.parameterized = parameterized;
+        copy.cacheTtl = cacheTtl;
+        copy.coalesced = coalesced;
+        copy.distinct = distinct;
+        copy.parallelCount = parallelCount;
+        copy.inListChunkSize = inListChunkSize;
+        return copy;
+    }
+
+    Function<String, JoinType> predicateJoinTypes() {
+        return predicateJoinTypes;
+    }
+
+    /**
+     * Join type for an association prefix that is not joined yet: a registered fetch join on that
+     * prefix decides, so count queries join the same way as the content query that reuses the fetch.
+     */
+    private JoinType joinTypeFor(String prefix, JoinType fallback) {
+        for (FetchJoinDescriptor fetchJoin : fetchJoins) {
+            if (fetchJoin.covers(prefix)) {
+                return fetchJoin.joinType();
+            }
+        }
+        return fallback;
+    }
+
     void addOrder(@NotNull Sort.Order order) {
         this.orderings.add(order);
     }
@@ -216,4 +1266,93 @@ public class FluentQuery<T> {
         Class<?> resultType = query.getResultType();
         return resultType == Long.class || resultType == long.class;
     }
+
+    private final class BatchIterator implements Iterator<List<T>> {
+
+        private final int size;
+        private final JpaEntityInformation<T, ?> information = context.entityInformation();
+        private final String idAttribute = information.getRequiredIdAttribute().getName();
+        private Object lastId;
+        private List<T> pending;
+        private boolean exhausted;
+
+        BatchIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null && !exhausted) {
+                List<T> batch = load();
+                if (batch.isEmpty()) {
+                    exhausted = true;
+                } else {
+                    pending = batch;
+                }
+            }
+            return pending != null;
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> batch = pending;
+            pending = null;
+            exhausted = batch.size() < size;
+            lastId = information.getId(batch.get(batch.size() - 1));
+            return batch;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private List<T> load() {
+            if (lastId != null) {
+                EntityManager entityManager = context.entityManager();
+                if (entityManager.isJoinedToTransaction()) {
+                    entityManager.flush();
+                }
+                entityManager.clear();
+            }
+            Comparable after = (Comparable) lastId;
+            Specification<T> seek = after == null
+                ? null
+                : (root, query, cb) -> cb.greaterThan(root.<Comparable>get(idAttribute), after);
+            Sort byId = Sort.by(idAttribute);
+            if (pagesByIds()) {
+                List<Object> ids = selectPageIds(Specification.where(spec).and(seek),
+                    PageRequest.of(0, size, byId), idAttribute, size);
+                return ids.isEmpty() ? List.of() : loadInOrder(ids, idAttribute, information);
+            }
+            return createQuery(Specification.where(currentSpec(byId)).and(seek))
+                .setMaxResults(size)
+                .getResultList();
+        }
+    }
+
+    /**
+     * Detaches streamed entities in batches, once the stream has moved past them.
+     */
+    private static final class BatchDetacher<T> implements UnaryOperator<T> {
+
+        private final EntityManager entityManager;
+        private final int batchSize;
+        private final List<T> processed;
+
+        BatchDetacher(EntityManager entityManager, int batchSize) {
+            this.entityManager = entityManager;
+            this.batchSize = batchSize;
+            this.processed = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public T apply(T entity) {
+            if (processed.size() >= batchSize) {
+                processed.forEach(entityManager::detach);
+                processed.clear();
+            }
+            processed.add(entity);
+            return entity;
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package me.miensoap.fluent.core;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded result cache for {@link FluentQuery#cached(Duration) cached} queries.
+ * <p>
+ * Entries are keyed on the query shape plus its bound values and weighted by the number of rows they
+ * hold; once the total weight exceeds the limit, the least recently used entries are evicted. Every
+ * entry remembers the entity types its query reads, and {@link #invalidate(Class)} drops all entries
+ * that depend on a changed type. When enabled through {@code fluent.query.cache.enabled}, the
+ * auto-configuration calls it from Hibernate's insert, update, delete and collection events; bulk
+ * operations of {@link FluentQuery} invalidate their domain type themselves. Changes made through native SQL or
+ * other JPQL bulk statements are only picked up when the entry expires.
+ * <p>
+ * Cached results are shared between callers and must be treated as read-only. Entities in them are
+ * detached from the persistence context that loaded them.
+ */
+public final class FluentQueryCache {
+
+    /**
+     * Default limit on the total number of cached rows.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 10_000;
+
+    private final long maxWeight;
+    private final Map<QueryKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong invalidations = new AtomicLong();
+    private long weight;
+
+    public FluentQueryCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * @param maxWeight maximum total number of rows held by all entries
+     */
+    public FluentQueryCache(long maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Max weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Drops every entry whose query reads the given entity type. Inside a transaction the type is only
+     * recorded, and all types changed by the transaction are evicted together once it completes: until
+     * then other threads cannot see the changes, and entries loaded meanwhile are not kept.
+     */
+    public void invalidate(@NotNull Class<?> entityType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(Set.of(entityType));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Class<?>> changed = (Set<Class<?>>) TransactionSynchronizationManager.getResource(this);
+        if (changed == null) {
+            Set<Class<?>> types = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, types);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(FluentQueryCache.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(FluentQueryCache.this, types);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(FluentQueryCache.this);
+                    evict(types);
+                }
+            });
+            changed = types;
+        }
+        changed.add(entityType);
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Total number of rows held by all entries.
+     */
+    public long weight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Returns the live entry for {@code key} or runs {@code loader} and caches its result. Results
+     * loaded while an invalidation happened are returned but not cached.
+     */
+    @SuppressWarnings("unchecked")
+    <R> R get(QueryKey key, Duration ttl, Set<Class<?>> dependencies, Supplier<R> loader, ToLongFunction<? super R> weigher) {
+        long now = System.nanoTime();
+        long generation;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - now > 0) {
+                    return (R) entry.value;
+                }
+                remove(key);
+            }
+            generation = invalidations.get();
+        }
+        R result = loader.get();
+        long rows = Math.max(1, weigher.applyAsLong(result));
+        if (rows > maxWeight) {
+            return result;
+        }
+        synchronized (entries) {
+            if (invalidations.get() != generation) {
+                return result;
+            }
+            Entry previous = entries.put(key, new Entry(result, System.nanoTime() + ttl.toNanos(), rows, dependencies));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += rows;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                weight -= eldest.next().weight;
+                eldest.remove();
+            }
+        }
+        return result;
+    }
+
+    private void evict(Set<Class<?>> entityTypes) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.dependsOnAny(entityTypes)) {
+                    weight -= entry.weight;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void remove(QueryKey key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private record Entry(Object value, long expiresAt, long weight, Set<Class<?>> dependencies) {
+
+        boolean dependsOnAny(Set<Class<?>> entityTypes) {
+            for (Class<?> dependency : dependencies) {
+                for (Class<?> entityType : entityTypes) {
+                    if (dependency.isAssignableFrom(entityType)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
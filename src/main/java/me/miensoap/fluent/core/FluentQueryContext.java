@@ -0,0 +1,214 @@
+package me.miensoap.fluent.core;
+
+import java.sql.Connection;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Persistence resources a {@link FluentQuery} can use beyond its Specification executor.
+ * <p>
+ * Repositories get a context registered by the auto-configuration. Queries created without one keep
+ * working but fall back to strategies that only need the executor.
+ */
+public final class FluentQueryContext<T> {
+
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Object OWN_TRANSACTION = new Object();
+
+    private final Class<T> domainType;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final Executor executor;
+    private final FluentQueryObserver observer;
+    private final FluentQueryCache cache;
+    private final PlatformTransactionManager transactionManager;
+    private final InFlightQueries inFlight = new InFlightQueries();
+    private volatile JpaEntityInformation<T, ?> entityInformation;
+    private volatile TransactionTemplate readOnlyTransactions;
+
+    public FluentQueryContext(@NotNull Class<T> domainType, @NotNull EntityManagerFactory entityManagerFactory) {
+        this(domainType, entityManagerFactory, VIRTUAL_THREADS);
+    }
+
+    /**
+     * @param executor runs work that leaves the calling thread, such as parallel count queries
+     */
+    public FluentQueryContext(@NotNull Class<T> domainType, @NotNull EntityManagerFactory entityManagerFactory,
+                              @NotNull Executor executor) {
+        this(domainType, entityManagerFactory, executor, FluentQueryObserver.NOOP);
+    }
+
+    /**
+     * @param observer notified after every terminal operation of queries using this context
+     */
+    public FluentQueryContext(@NotNull Class<T> domainType, @NotNull EntityManagerFactory entityManagerFactory,
+                              @NotNull Executor executor, @NotNull FluentQueryObserver observer) {
+        this(domainType, entityManagerFactory, executor, observer, null);
+    }
+
+    /**
+     * @param cache holds the results of {@link FluentQuery#cached(java.time.Duration) cached} queries;
+     *              without one, queries cannot be cached
+     */
+    public FluentQueryContext(@NotNull Class<T> domainType, @NotNull EntityManagerFactory entityManagerFactory,
+                              @NotNull Executor executor, @NotNull FluentQueryObserver observer,
+                              @Nullable FluentQueryCache cache) {
+        this(domainType, entityManagerFactory, executor, observer, cache, null);
+    }
+
+    /**
+     * @param transactionManager starts the read-only transactions of work that leaves the calling thread,
+     *                           such as asynchronous terminals; without one, a {@link JpaTransactionManager}
+     *                           for {@code entityManagerFactory} is used
+     */
+    public FluentQueryContext(@NotNull Class<T> domainType, @NotNull EntityManagerFactory entityManagerFactory,
+                              @NotNull Executor executor, @NotNull FluentQueryObserver observer,
+                              @Nullable FluentQueryCache cache, @Nullable PlatformTransactionManager transactionManager) {
+        this.domainType = Objects.requireNonNull(domainType, "Domain type must not be null");
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory, "EntityManagerFactory must not be null");
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+        this.observer = Objects.requireNonNull(observer, "Observer must not be null");
+        this.cache = cache;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Shared virtual-thread executor contexts use when none is configured.
+     */
+    @NotNull
+    public static Executor defaultExecutor() {
+        return VIRTUAL_THREADS;
+    }
+
+    @NotNull
+    public Class<T> domainType() {
+        return domainType;
+    }
+
+    @NotNull
+    public EntityManagerFactory entityManagerFactory() {
+        return entityManagerFactory;
+    }
+
+    /**
+     * Transaction-aware shared EntityManager, i.e. the same persistence context the repository uses.
+     */
+    @NotNull
+    public EntityManager entityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Executor for work that leaves the calling thread; virtual threads unless configured otherwise.
+     */
+    @NotNull
+    public Executor executor() {
+        return executor;
+    }
+
+    @NotNull
+    public FluentQueryObserver observer() {
+        return observer;
+    }
+
+    @Nullable
+    public FluentQueryCache cache() {
+        return cache;
+    }
+
+    InFlightQueries inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Runs work that left the calling thread in a read-only transaction of its own. Queries running
+     * inside it are marked {@link #inOwnTransaction() as such}, so they execute inline instead of
+     * hopping threads again.
+     */
+    <R> R inReadOnlyTransaction(Supplier<R> work) {
+        return readOnlyTransactions().execute(status -> {
+            if (TransactionSynchronizationManager.hasResource(OWN_TRANSACTION)) {
+                return work.get();
+            }
+            TransactionSynchronizationManager.bindResource(OWN_TRANSACTION, Boolean.TRUE);
+            try {
+                return work.get();
+            } finally {
+                TransactionSynchronizationManager.unbindResource(OWN_TRANSACTION);
+            }
+        });
+    }
+
+    /**
+     * Whether the current thread runs inside a transaction started by {@link #inReadOnlyTransaction}
+     * rather than one owned by the caller.
+     */
+    static boolean inOwnTransaction() {
+        return TransactionSynchronizationManager.hasResource(OWN_TRANSACTION);
+    }
+
+    /**
+     * Read-only transactions for work that leaves the calling thread, where each transaction gets its own
+     * EntityManager bound to the executing thread. They use the configured transaction manager, so its
+     * settings and JDBC integration apply, and otherwise a JpaTransactionManager of this context.
+     */
+    private TransactionTemplate readOnlyTransactions() {
+        TransactionTemplate transactions = readOnlyTransactions;
+        if (transactions == null) {
+            PlatformTransactionManager manager = transactionManager;
+            if (manager == null) {
+                JpaTransactionManager local = new JpaTransactionManager(entityManagerFactory);
+                local.afterPropertiesSet();
+                manager = local;
+            }
+            transactions = new TransactionTemplate(manager);
+            transactions.setReadOnly(true);
+            readOnlyTransactions = transactions;
+        }
+        return transactions;
+    }
+
+    /**
+     * Opens a persistence context of its own for work that must not touch the caller's entities; the
+     * caller closes it. Inside a transaction it shares the transaction's connection, after pending
+     * changes were flushed, so it reads the same uncommitted state. Otherwise it uses its own connection.
+     */
+    EntityManager openSeparateEntityManager() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || !entityManager.isJoinedToTransaction()) {
+            return entityManagerFactory.createEntityManager();
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            entityManager.flush();
+        }
+        Connection connection = entityManager.unwrap(Session.class).doReturningWork(current -> current);
+        return entityManagerFactory.unwrap(SessionFactory.class).withOptions().connection(connection).openSession();
+    }
+
+    JpaEntityInformation<T, ?> entityInformation() {
+        JpaEntityInformation<T, ?> information = entityInformation;
+        if (information == null) {
+            information = JpaEntityInformationSupport.getEntityInformation(domainType, entityManager);
+            entityInformation = information;
+        }
+        return information;
+    }
+}
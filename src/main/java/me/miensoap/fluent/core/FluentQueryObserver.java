@@ -0,0 +1,21 @@
+package me.miensoap.fluent.core;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives one {@link QueryExecution} per terminal operation of a {@link FluentQuery} that has a
+ * {@link FluentQueryContext}.
+ * <p>
+ * Called synchronously on the thread that ran the query, so implementations should only record.
+ */
+@FunctionalInterface
+public interface FluentQueryObserver {
+
+    /**
+     * Default observer; queries skip timing entirely when it is in use.
+     */
+    FluentQueryObserver NOOP = execution -> {
+    };
+
+    void onExecution(@NotNull QueryExecution execution);
+}
@@ -0,0 +1,88 @@
+package me.miensoap.fluent.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+
+/**
+ * Query shape compiled once by {@link FluentQuery#compile()} and executed with different arguments.
+ * <p>
+ * Properties are resolved and Specifications are applied only while compiling; each execution just
+ * creates a query from the cached criteria and binds the {@link Param} values. Hibernate only reuses
+ * the translated plan of a criteria query when {@code hibernate.criteria.plan_cache_enabled} is set
+ * (it is off by default); otherwise each execution translates the criteria again, into the same SQL.
+ * <p>
+ * Executions go through the same pipeline as the terminals of the compiled query: they are reported
+ * to its observer and, when it was {@link FluentQuery#cached(java.time.Duration) cached} or
+ * {@link FluentQuery#coalesced() coalesced}, cached or shared per set of arguments.
+ */
+public final class FluentTemplate<T> {
+
+    private final FluentQuery<T> query;
+    private final FluentQueryContext<T> context;
+    private final CriteriaQuery<T> contentQuery;
+    private final CriteriaQuery<Long> countQuery;
+    private final Set<String> parameters;
+
+    FluentTemplate(FluentQuery<T> query, CriteriaQuery<T> contentQuery, CriteriaQuery<Long> countQuery) {
+        this.query = query;
+        this.context = query.requireContext("Templates");
+        this.contentQuery = contentQuery;
+        this.countQuery = countQuery;
+        this.parameters = contentQuery.getParameters().stream()
+            .map(ParameterExpression::getName)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @NotNull
+    public List<T> fetch(@NotNull Map<String, ?> arguments) {
+        requireArguments(arguments);
+        return query.executeTemplate("fetch", arguments,
+            () -> bind(context.entityManager().createQuery(contentQuery), arguments).getResultList(), List::size);
+    }
+
+    @NotNull
+    public Optional<T> fetchOne(@NotNull Map<String, ?> arguments) {
+        requireArguments(arguments);
+        return query.executeTemplate("fetchOne", arguments, () -> {
+            List<T> results = bind(context.entityManager().createQuery(contentQuery), arguments)
+                .setMaxResults(2)
+                .getResultList();
+            if (results.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, results.size());
+            }
+            return results.stream().findFirst();
+        }, result -> result.isPresent() ? 1 : 0);
+    }
+
+    public long count(@NotNull Map<String, ?> arguments) {
+        requireArguments(arguments);
+        return query.executeTemplate("count", arguments,
+            () -> bind(context.entityManager().createQuery(countQuery), arguments).getSingleResult(), count -> 1);
+    }
+
+    private void requireArguments(Map<String, ?> arguments) {
+        Objects.requireNonNull(arguments, "Arguments must not be null");
+        for (String name : parameters) {
+            if (!arguments.containsKey(name)) {
+                throw new IllegalArgumentException("Missing argument for parameter '" + name + "'");
+            }
+        }
+    }
+
+    private <R> TypedQuery<R> bind(TypedQuery<R> query, Map<String, ?> arguments) {
+        arguments.forEach(query::setParameter);
+        return query;
+    }
+}
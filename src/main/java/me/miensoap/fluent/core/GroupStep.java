@@ -0,0 +1,38 @@
+package me.miensoap.fluent.core;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Group-by terminals evaluated in the database with the predicates of a {@link FluentQuery}.
+ * <p>
+ * Results are ordered by group value; a {@code null} value forms its own group.
+ */
+public final class GroupStep<T, K> {
+
+    private final FluentQuery<T> query;
+    private final String field;
+
+    GroupStep(@NotNull FluentQuery<T> query, @NotNull String field) {
+        this.query = query;
+        this.field = field;
+    }
+
+    @NotNull
+    public Map<K, Long> count() {
+        return query.groupAggregate("groupCount", field, null, (root, cb) -> cb.count(root));
+    }
+
+    @NotNull
+    public Map<K, Number> sum(@NotNull Property<T, ? extends Number> property) {
+        String summed = PropertyNameResolver.resolve(property);
+        return query.groupAggregate("groupSum", field, summed, (root, cb) -> cb.sum(query.numericPath(root, summed)));
+    }
+
+    @NotNull
+    public Map<K, Double> avg(@NotNull Property<T, ? extends Number> property) {
+        String averaged = PropertyNameResolver.resolve(property);
+        return query.groupAggregate("groupAvg", field, averaged, (root, cb) -> cb.avg(query.numericPath(root, averaged)));
+    }
+}
@@ -0,0 +1,52 @@
+package me.miensoap.fluent.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight registry: concurrent executions of the same {@link QueryKey} wait for the first one
+ * instead of issuing their own database call. Nothing is kept once the call completes.
+ */
+final class InFlightQueries {
+
+    private final ConcurrentMap<QueryKey, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <R> R join(QueryKey key, Supplier<R> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> running = calls.putIfAbsent(key, call);
+        if (running != null) {
+            return (R) await(running);
+        }
+        try {
+            R result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Rethrows the leader's exception as is, so every caller sees the same failure.
+     */
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
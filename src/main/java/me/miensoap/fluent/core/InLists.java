@@ -0,0 +1,66 @@
+package me.miensoap.fluent.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Renders {@code in}/{@code not in} predicates with a bounded set of parameter counts.
+ * <p>
+ * Values are de-duplicated and padded to the next power of two by repeating the last value, so lists
+ * of different sizes share a few SQL shapes. Lists longer than the chunk size are split into chunks
+ * that are OR'ed ({@code in}) or AND'ed ({@code not in}), which keeps each list within per-list limits
+ * such as Oracle's 1000 expressions. All chunks still belong to one statement, so the total number of
+ * bind parameters is not reduced and very large lists can exceed a driver's per-statement limit
+ * (e.g. 2100 on SQL Server).
+ */
+final class InLists {
+
+    static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private InLists() {
+    }
+
+    static Predicate in(CriteriaBuilder cb, Expression<?> expression, Collection<?> values, int chunkSize) {
+        List<Predicate> chunks = new ArrayList<>();
+        for (List<Object> chunk : chunks(values, chunkSize)) {
+            chunks.add(expression.in(chunk));
+        }
+        return chunks.size() == 1 ? chunks.get(0) : cb.or(chunks.toArray(Predicate[]::new));
+    }
+
+    static Predicate notIn(CriteriaBuilder cb, Expression<?> expression, Collection<?> values, int chunkSize) {
+        List<Predicate> chunks = new ArrayList<>();
+        for (List<Object> chunk : chunks(values, chunkSize)) {
+            chunks.add(cb.not(expression.in(chunk)));
+        }
+        return chunks.size() == 1 ? chunks.get(0) : cb.and(chunks.toArray(Predicate[]::new));
+    }
+
+    static List<List<Object>> chunks(Collection<?> values, int chunkSize) {
+        List<Object> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        List<List<Object>> chunks = new ArrayList<>((distinct.size() + chunkSize - 1) / chunkSize);
+        for (int start = 0; start < distinct.size(); start += chunkSize) {
+            List<Object> chunk = new ArrayList<>(distinct.subList(start, Math.min(start + chunkSize, distinct.size())));
+            pad(chunk, Math.min(bucket(chunk.size()), chunkSize));
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static int bucket(int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private static void pad(List<Object> chunk, int size) {
+        Object last = chunk.get(chunk.size() - 1);
+        while (chunk.size() < size) {
+            chunk.add(last);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package me.miensoap.fluent.core;
+
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+
+/**
+ * Per-query join lookup backed by the criteria tree itself.
+ * <p>
+ * Before joining an association, the joins and fetch joins already attached to the parent are
+ * consulted so predicates, sort expressions and fetches on the same path share one SQL join.
+ * Collection fetches are never reused: restricting them would load a partial collection into the
+ * managed entities, so predicates on a fetched collection get a join of their own.
+ */
+final class JoinRegistry {
+
+    private JoinRegistry() {
+    }
+
+    static From<?, ?> join(From<?, ?> parent, String attribute, JoinType joinType) {
+        for (Join<?, ?> join : parent.getJoins()) {
+            if (matches(join, attribute)) {
+                return join;
+            }
+        }
+        for (Fetch<?, ?> fetch : parent.getFetches()) {
+            if (fetch instanceof From<?, ?> fetched && matches(fetch, attribute) && !fetch.getAttribute().isCollection()) {
+                return fetched;
+            }
+        }
+        return parent.join(attribute, joinType);
+    }
+
+    private static boolean matches(Join<?, ?> join, String attribute) {
+        return join.getAttribute() != null && attribute.equals(join.getAttribute().getName());
+    }
+
+    private static boolean matches(Fetch<?, ?> fetch, String attribute) {
+        return fetch.getAttribute() != null && attribute.equals(fetch.getAttribute().getName());
+    }
+}
@@ -0,0 +1,39 @@
+package me.miensoap.fluent.core;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Named bind parameter used in place of a value when defining a {@link FluentTemplate}.
+ * <p>
+ * The value is supplied on every execution of the compiled template, e.g.
+ * {@code query().where(Member::getStatus).equalTo(param("status")).compile()}.
+ */
+public final class Param {
+
+    private final String name;
+
+    private Param(String name) {
+        this.name = name;
+    }
+
+    @NotNull
+    public static Param param(@NotNull String name) {
+        Objects.requireNonNull(name, "Parameter name must not be null");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("Parameter name must not be blank");
+        }
+        return new Param(name);
+    }
+
+    @NotNull
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name;
+    }
+}
@@ -0,0 +1,240 @@
+package me.miensoap.fluent.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.Handle;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves chained property lambdas by reading the getter invocations from the lambda body bytecode.
+ * <p>
+ * Supports bodies of the form {@code x -> x.getA().getB()} (optionally followed by a checkcast or a
+ * boxing call) without instantiating any proxies, so final, Kotlin and interface types work as well.
+ */
+final class PropertyBytecodeAnalyzer {
+
+    private static final Set<String> BOXING_OWNERS = Set.of(
+        "java/lang/Boolean", "java/lang/Byte", "java/lang/Short", "java/lang/Character",
+        "java/lang/Integer", "java/lang/Long", "java/lang/Float", "java/lang/Double"
+    );
+
+    private PropertyBytecodeAnalyzer() {
+    }
+
+    static ResolvedProperty capture(Property<?, ?> property, SerializedLambda lambda) {
+        Objects.requireNonNull(property, "Property reference must not be null");
+        String description = describeLambda(lambda);
+        boolean isStatic = lambda.getImplMethodKind() == MethodHandleInfo.REF_invokeStatic;
+        if (!isStatic && !lambda.getImplMethodName().startsWith("lambda$")) {
+            throw new IllegalArgumentException("Property references must point to a JavaBean getter or a getter chain lambda"
+                + " (lambda=" + description + ")");
+        }
+        ClassLoader loader = property.getClass().getClassLoader();
+        ChainReader reader = new ChainReader(lambda, isStatic);
+        new ClassReader(classBytes(lambda.getImplClass(), loader, description))
+            .accept(reader, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return reader.result(loader, description);
+    }
+
+    private static byte[] classBytes(String implClass, ClassLoader loader, String description) {
+        ClassLoader source = loader == null ? ClassLoader.getSystemClassLoader() : loader;
+        try (InputStream stream = source.getResourceAsStream(implClass + ".class")) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Unable to read bytecode of " + implClass.replace('/', '.')
+                    + " (lambda=" + description + ")");
+            }
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read bytecode of " + implClass.replace('/', '.')
+                + " (lambda=" + description + ")", e);
+        }
+    }
+
+    private static String describeLambda(SerializedLambda lambda) {
+        String implType = lambda.getImplClass() == null ? "unknown" : lambda.getImplClass().replace('/', '.');
+        return implType + "#" + lambda.getImplMethodName();
+    }
+
+    private static final class ChainReader extends ClassVisitor {
+
+        private final String methodName;
+        private final String methodDescriptor;
+        private final int parameterSlot;
+        private final List<String> segments = new ArrayList<>();
+        private String leafType;
+        private String unsupported;
+        private boolean found;
+
+        ChainReader(SerializedLambda lambda, boolean isStatic) {
+            super(SpringAsmInfo.ASM_VERSION);
+            this.methodName = lambda.getImplMethodName();
+            this.methodDescriptor = lambda.getImplMethodSignature();
+            Type[] arguments = Type.getArgumentTypes(methodDescriptor);
+            int slot = isStatic ? 0 : 1;
+            for (int i = 0; i < arguments.length - 1; i++) {
+                slot += arguments[i].getSize();
+            }
+            this.parameterSlot = slot;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                         String[] exceptions) {
+            if (!methodName.equals(name) || !methodDescriptor.equals(descriptor)) {
+                return null;
+            }
+            found = true;
+            return new BodyReader();
+        }
+
+        ResolvedProperty result(ClassLoader loader, String description) {
+            if (!found) {
+                throw new IllegalArgumentException("Unable to locate lambda body (lambda=" + description + ")");
+            }
+            String path = String.join(".", segments);
+            if (unsupported != null) {
+                throw new IllegalArgumentException("Property chaining only supports plain getter chains but found "
+                    + unsupported + " (lambda=" + description + ", path=" + path + ")");
+            }
+            if (segments.isEmpty()) {
+                throw new IllegalArgumentException("Property references must invoke at least one getter (lambda="
+                    + description + ")");
+            }
+            return new ResolvedProperty(path, loadType(leafType, loader, description));
+        }
+
+        private Class<?> loadType(String descriptor, ClassLoader loader, String description) {
+            try {
+                return ClassUtils.forName(Type.getType(descriptor).getClassName(), loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new IllegalArgumentException("Unable to resolve property type " + descriptor
+                    + " (lambda=" + description + ")", e);
+            }
+        }
+
+        private final class BodyReader extends MethodVisitor {
+
+            private boolean loaded;
+            private boolean boxed;
+            private boolean returned;
+
+            BodyReader() {
+                super(SpringAsmInfo.ASM_VERSION);
+            }
+
+            @Override
+            public void visitVarInsn(int opcode, int varIndex) {
+                if (loaded || opcode != Opcodes.ALOAD || varIndex != parameterSlot) {
+                    reject("local variable access");
+                    return;
+                }
+                loaded = true;
+            }
+
+            @Override
+            public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+                if (!loaded || boxed || returned) {
+                    reject("call to " + name);
+                    return;
+                }
+                if (opcode == Opcodes.INVOKESTATIC && BOXING_OWNERS.contains(owner) && "valueOf".equals(name)
+                    && !segments.isEmpty()) {
+                    boxed = true;
+                    return;
+                }
+                boolean instanceCall = opcode == Opcodes.INVOKEVIRTUAL || opcode == Opcodes.INVOKEINTERFACE;
+                if (!instanceCall || !PropertyNameResolver.isGetter(name)
+                    || Type.getArgumentTypes(descriptor).length != 0) {
+                    reject("call to non-getter '" + name + "'");
+                    return;
+                }
+                segments.add(PropertyNameResolver.propertyName(name));
+                leafType = Type.getReturnType(descriptor).getDescriptor();
+            }
+
+            @Override
+            public void visitTypeInsn(int opcode, String type) {
+                if (opcode != Opcodes.CHECKCAST || segments.isEmpty() || boxed) {
+                    reject("type instruction");
+                    return;
+                }
+                leafType = Type.getObjectType(type).getDescriptor();
+            }
+
+            @Override
+            public void visitInsn(int opcode) {
+                if (opcode == Opcodes.ARETURN && !segments.isEmpty() && !returned) {
+                    returned = true;
+                    return;
+                }
+                reject("instruction " + opcode);
+            }
+
+            @Override
+            public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+                reject("field access '" + name + "'");
+            }
+
+            @Override
+            public void visitIntInsn(int opcode, int operand) {
+                reject("constant");
+            }
+
+            @Override
+            public void visitLdcInsn(Object value) {
+                reject("constant");
+            }
+
+            @Override
+            public void visitJumpInsn(int opcode, Label label) {
+                reject("branch");
+            }
+
+            @Override
+            public void visitIincInsn(int varIndex, int increment) {
+                reject("local variable access");
+            }
+
+            @Override
+            public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+                reject("branch");
+            }
+
+            @Override
+            public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+                reject("branch");
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+                reject("array creation");
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                                               Object... bootstrapMethodArguments) {
+                reject("dynamic call '" + name + "'");
+            }
+
+            private void reject(String instruction) {
+                if (unsupported == null) {
+                    unsupported = instruction;
+                }
+            }
+        }
+    }
+}
@@ -14,6 +14,16 @@ final class PropertyNameResolver {
 
     private static final ConcurrentMap<LambdaCacheKey, ResolvedProperty> CACHE = new ConcurrentHashMap<>();
 
+    /**
+     * First-level cache keyed by the synthetic lambda class so warm lookups skip {@code writeReplace}.
+     */
+    private static final ClassValue<ResolvedSlot> BY_LAMBDA_CLASS = new ClassValue<>() {
+        @Override
+        protected ResolvedSlot computeValue(Class<?> type) {
+            return new ResolvedSlot();
+        }
+    };
+
     private PropertyNameResolver() {
     }
 
@@ -56,6 +66,16 @@ final class PropertyNameResolver {
     }
 
     private static ResolvedProperty resolveInternal(Property<?, ?> property) {
+        ResolvedSlot slot = BY_LAMBDA_CLASS.get(property.getClass());
+        ResolvedProperty resolved = slot.value;
+        if (resolved == null) {
+            resolved = resolveBySerializedLambda(property);
+            slot.value = resolved;
+        }
+        return resolved;
+    }
+
+    private static ResolvedProperty resolveBySerializedLambda(Property<?, ?> property) {
         SerializedLambda lambda = serializedLambda(property);
         LambdaCacheKey key = LambdaCacheKey.from(lambda);
         return CACHE.computeIfAbsent(key, k -> resolveWithoutCache(property, lambda));
@@ -66,6 +86,9 @@ final class PropertyNameResolver {
         if (isGetter(methodName)) {
             return new ResolvedProperty(propertyName(methodName), returnType(lambda));
         }
+        if (PropertyResolution.strategy() == PropertyResolution.Strategy.BYTECODE) {
+            return PropertyBytecodeAnalyzer.capture(property, lambda);
+        }
         Class<?> rootType = parameterType(lambda);
         return PropertyPathRecorder.capture(property, rootType, lambda);
     }
@@ -101,6 +124,11 @@ final class PropertyNameResolver {
         return Introspector.decapitalize(name);
     }
 
+    private static final class ResolvedSlot {
+
+        private volatile ResolvedProperty value;
+    }
+
     private static final class LambdaCacheKey {
 
         private final String implClass;
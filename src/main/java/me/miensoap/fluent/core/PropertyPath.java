@@ -0,0 +1,54 @@
+package me.miensoap.fluent.core;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Statically known attribute path, usually emitted by the fluent metamodel processor.
+ * <p>
+ * Unlike {@link Property}, a path constant carries its dot-path and type directly so no
+ * reflection or proxy generation happens when it is passed to the DSL.
+ */
+public class PropertyPath<T, R> {
+
+    private final Class<T> rootType;
+    private final String path;
+    private final Class<?> type;
+
+    protected PropertyPath(@NotNull Class<T> rootType, @NotNull String path, @NotNull Class<?> type) {
+        this.rootType = Objects.requireNonNull(rootType, "Root type must not be null");
+        this.path = Objects.requireNonNull(path, "Property path must not be null");
+        this.type = Objects.requireNonNull(type, "Property type must not be null");
+    }
+
+    @NotNull
+    public static <T, R> PropertyPath<T, R> of(@NotNull Class<T> rootType, @NotNull String path, @NotNull Class<?> type) {
+        return new PropertyPath<>(rootType, path, type);
+    }
+
+    @NotNull
+    public <N> PropertyPath<T, N> get(@NotNull String attribute, @NotNull Class<?> attributeType) {
+        return new PropertyPath<>(rootType, path + "." + attribute, attributeType);
+    }
+
+    @NotNull
+    public Class<T> rootType() {
+        return rootType;
+    }
+
+    @NotNull
+    public String path() {
+        return path;
+    }
+
+    @NotNull
+    public Class<?> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return rootType.getSimpleName() + "." + path;
+    }
+}
@@ -7,17 +7,45 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.cglib.core.CodeGenerationException;
 import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
 import org.springframework.cglib.proxy.MethodInterceptor;
 import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.objenesis.ObjenesisException;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.util.ReflectionUtils;
 
 final class PropertyPathRecorder {
 
+    private static final AtomicInteger PROXY_CLASS_COUNT = new AtomicInteger();
+    private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+    /**
+     * Proxy classes are generated once per recorded type; each recording binds its own callback.
+     */
+    private static final ClassValue<Class<?>> PROXY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            Enhancer enhancer = new Enhancer();
+            enhancer.setSuperclass(type);
+            enhancer.setCallbackType(MethodInterceptor.class);
+            enhancer.setUseFactory(true);
+            Class<?> proxyClass = enhancer.createClass();
+            PROXY_CLASS_COUNT.incrementAndGet();
+            return proxyClass;
+        }
+    };
+
     private PropertyPathRecorder() {
     }
 
+    static int proxyClassCount() {
+        return PROXY_CLASS_COUNT.get();
+    }
+
     static ResolvedProperty capture(Property<?, ?> property, Class<?> rootType, SerializedLambda lambda) {
         Objects.requireNonNull(property, "Property reference must not be null");
         Objects.requireNonNull(rootType, "Property root type must not be null");
@@ -97,16 +125,30 @@ final class PropertyPathRecorder {
             if (!hasUsableConstructor(type)) {
                 throw fail("Property chaining requires a non-private no-arg constructor for " + type.getName());
             }
-            Enhancer enhancer = new Enhancer();
-            enhancer.setSuperclass(type);
-            enhancer.setCallback(this);
-            enhancer.setInterceptDuringConstruction(false);
-            enhancer.setUseFactory(false);
+            Class<?> proxyClass;
             try {
-                return enhancer.create();
+                proxyClass = PROXY_CLASSES.get(type);
             } catch (CodeGenerationException | IllegalArgumentException e) {
                 throw fail("Property chaining could not create proxy for " + type.getName(), e);
             }
+            Factory proxy = (Factory) instantiate(proxyClass);
+            proxy.setCallback(0, this);
+            return proxy;
+        }
+
+        private Object instantiate(Class<?> proxyClass) {
+            if (OBJENESIS.isWorthTrying()) {
+                try {
+                    return OBJENESIS.newInstance(proxyClass);
+                } catch (ObjenesisException ignored) {
+                    // fall back to the regular constructor below
+                }
+            }
+            try {
+                return ReflectionUtils.accessibleConstructor(proxyClass).newInstance();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw fail("Property chaining could not instantiate proxy for " + proxyClass.getSuperclass().getName(), e);
+            }
         }
 
         private boolean shouldProxy(Class<?> type) {
@@ -0,0 +1,50 @@
+package me.miensoap.fluent.core;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configuration and diagnostics for property reference resolution.
+ */
+public final class PropertyResolution {
+
+    private static volatile Strategy strategy = Strategy.PROXY;
+
+    private PropertyResolution() {
+    }
+
+    /**
+     * Selects how chained lambdas such as {@code like -> like.getPost().getId()} are resolved.
+     * Already resolved references stay cached since both strategies yield the same path.
+     */
+    public static void useStrategy(@NotNull Strategy strategy) {
+        PropertyResolution.strategy = Objects.requireNonNull(strategy, "Strategy must not be null");
+    }
+
+    @NotNull
+    public static Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * Number of proxy classes generated so far for chained property references.
+     * Grows with the number of distinct intermediate types, not with the number of lambdas.
+     */
+    public static int proxyClassCount() {
+        return PropertyPathRecorder.proxyClassCount();
+    }
+
+    public enum Strategy {
+        /**
+         * Invokes the lambda against CGLIB proxies and records the getter calls.
+         * Requires non-final classes with a non-private no-arg constructor along the chain.
+         */
+        PROXY,
+        /**
+         * Reads the getter chain from the lambda body bytecode without instantiating anything.
+         * Works for final, Kotlin and interface types but only accepts plain getter chains.
+         */
+        BYTECODE
+    }
+}
@@ -0,0 +1,30 @@
+package me.miensoap.fluent.core;
+
+import java.time.Duration;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * One observed terminal operation.
+ *
+ * @param domainType entity the query ran against
+ * @param operation  terminal name, e.g. {@code fetch}, {@code fetchPage} or {@code count}
+ * @param shape      query structure without bound values; equal for queries that differ only in values
+ * @param duration   wall-clock time of the terminal
+ * @param rows       rows returned, or affected for bulk operations; {@code 0} when the query failed
+ * @param failure    exception the terminal threw, if any
+ */
+public record QueryExecution(
+    @NotNull Class<?> domainType,
+    @NotNull String operation,
+    @NotNull QueryShape shape,
+    @NotNull Duration duration,
+    long rows,
+    @Nullable Throwable failure
+) {
+
+    public boolean succeeded() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,14 @@
+package me.miensoap.fluent.core;
+
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Identity of one terminal execution: equal keys return equal results on the same data.
+ *
+ * @param values    values bound by the conditions of the query, in chain order
+ * @param arguments terminal arguments that change the result, such as a {@link org.springframework.data.domain.Pageable}
+ */
+record QueryKey(Class<?> domainType, String operation, QueryShape shape, List<Object> values, @Nullable Object arguments) {
+}
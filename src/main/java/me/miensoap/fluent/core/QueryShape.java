@@ -0,0 +1,261 @@
+package me.miensoap.fluent.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.criteria.JoinType;
+
+/**
+ * Structure of a {@link FluentQuery} without any bound value: the predicate tree with attribute paths
+ * and operators, orderings, fetch joins and distinct.
+ * <p>
+ * Queries that differ only in values have equal shapes and the same {@link #fingerprint()}. The
+ * predicate part of the fingerprint is combined while the chain is built, so obtaining a shape never
+ * renders SQL or walks the tree.
+ */
+public final class QueryShape {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long NONE = 0x5bd1e9955bd1e995L;
+    private static final long CONDITION = 1;
+    private static final long CUSTOM = 2;
+    private static final long AND = 3;
+    private static final long OR = 4;
+    private static final long NOT = 5;
+    private static final long ORDERING = 6;
+    private static final long FETCH_JOIN = 7;
+    private static final long DISTINCT = 8;
+
+    /**
+     * Node of the predicate tree.
+     */
+    public sealed interface Predicate permits Condition, Custom, And, Or, Not {
+    }
+
+    /**
+     * Condition added through a {@link FieldStep} operator, e.g. {@code status:equalTo}.
+     */
+    public record Condition(@NotNull String path, @NotNull String operator) implements Predicate {
+
+        @Override
+        public String toString() {
+            return path + ":" + operator;
+        }
+    }
+
+    /**
+     * Specification passed to the query as is; only its implementation class is known.
+     */
+    public record Custom(@NotNull String type) implements Predicate {
+
+        @Override
+        public String toString() {
+            return "specification";
+        }
+    }
+
+    public record And(@NotNull Predicate left, @NotNull Predicate right) implements Predicate {
+
+        @Override
+        public String toString() {
+            return "(" + left + " and " + right + ")";
+        }
+    }
+
+    public record Or(@NotNull Predicate left, @NotNull Predicate right) implements Predicate {
+
+        @Override
+        public String toString() {
+            return "(" + left + " or " + right + ")";
+        }
+    }
+
+    public record Not(@NotNull Predicate operand) implements Predicate {
+
+        @Override
+        public String toString() {
+            return "not(" + operand + ")";
+        }
+    }
+
+    public record Ordering(@NotNull String path, @NotNull Sort.Direction direction, boolean ignoreCase) {
+    }
+
+    public record FetchJoin(@NotNull String path, @NotNull JoinType joinType) {
+    }
+
+    private final Predicate predicate;
+    private final List<Ordering> orderings;
+    private final List<FetchJoin> fetchJoins;
+    private final boolean distinct;
+    private final long fingerprint;
+
+    QueryShape(@Nullable Predicate predicate, long predicateFingerprint, List<Ordering> orderings,
+               List<FetchJoin> fetchJoins, boolean distinct) {
+        this.predicate = predicate;
+        this.orderings = List.copyOf(orderings);
+        this.fetchJoins = List.copyOf(fetchJoins);
+        this.distinct = distinct;
+        this.fingerprint = fingerprintOf(predicateFingerprint, this.orderings, this.fetchJoins, distinct);
+    }
+
+    /**
+     * Root of the predicate tree, or {@code null} when the query matches all rows.
+     */
+    @Nullable
+    public Predicate predicate() {
+        return predicate;
+    }
+
+    @NotNull
+    public List<Ordering> orderings() {
+        return orderings;
+    }
+
+    @NotNull
+    public List<FetchJoin> fetchJoins() {
+        return fetchJoins;
+    }
+
+    public boolean distinct() {
+        return distinct;
+    }
+
+    /**
+     * 64-bit hash of the whole shape; deterministic across runs except for {@link Custom} predicates,
+     * whose lambda class names may change between JVM runs.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof QueryShape shape)) {
+            return false;
+        }
+        return fingerprint == shape.fingerprint
+            && distinct == shape.distinct
+            && Objects.equals(predicate, shape.predicate)
+            && orderings.equals(shape.orderings)
+            && fetchJoins.equals(shape.fetchJoins);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint);
+    }
+
+    /**
+     * Compact rendering such as {@code (status:equalTo and age:greaterThan) order:age:DESC}, suitable
+     * as a metric tag.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(predicate == null ? "all" : predicate.toString());
+        for (Ordering ordering : orderings) {
+            text.append(" order:").append(ordering.path()).append(':').append(ordering.direction());
+            if (ordering.ignoreCase()) {
+                text.append(":ignoreCase");
+            }
+        }
+        for (FetchJoin fetchJoin : fetchJoins) {
+            text.append(" fetch:").append(fetchJoin.path()).append(':').append(fetchJoin.joinType());
+        }
+        if (distinct) {
+            text.append(" distinct");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Hands every attribute path the shape refers to to {@code action}.
+     */
+    void forEachPath(Consumer<String> action) {
+        forEachPath(predicate, action);
+        orderings.forEach(ordering -> action.accept(ordering.path()));
+        fetchJoins.forEach(fetchJoin -> action.accept(fetchJoin.path()));
+    }
+
+    private static void forEachPath(@Nullable Predicate predicate, Consumer<String> action) {
+        switch (predicate) {
+            case null -> {
+            }
+            case Condition condition -> action.accept(condition.path());
+            case Custom custom -> {
+            }
+            case And and -> {
+                forEachPath(and.left(), action);
+                forEachPath(and.right(), action);
+            }
+            case Or or -> {
+                forEachPath(or.left(), action);
+                forEachPath(or.right(), action);
+            }
+            case Not not -> forEachPath(not.operand(), action);
+        }
+    }
+
+    static long none() {
+        return NONE;
+    }
+
+    static long leaf(Predicate predicate) {
+        if (predicate instanceof Condition condition) {
+            return mix(mix(CONDITION, hash(condition.path())), hash(condition.operator()));
+        }
+        if (predicate instanceof Custom custom) {
+            return mix(CUSTOM, hash(custom.type()));
+        }
+        throw new IllegalArgumentException("Not a leaf predicate: " + predicate);
+    }
+
+    static long and(long left, long right) {
+        return mix(mix(AND, left), right);
+    }
+
+    static long or(long left, long right) {
+        return mix(mix(OR, left), right);
+    }
+
+    static long not(long operand) {
+        return mix(NOT, operand);
+    }
+
+    private static long fingerprintOf(long predicateFingerprint, List<Ordering> orderings,
+                                      List<FetchJoin> fetchJoins, boolean distinct) {
+        long result = predicateFingerprint;
+        for (Ordering ordering : orderings) {
+            long next = mix(mix(ORDERING, hash(ordering.path())), ordering.direction().ordinal());
+            result = mix(result, ordering.ignoreCase() ? ~next : next);
+        }
+        for (FetchJoin fetchJoin : fetchJoins) {
+            result = mix(result, mix(mix(FETCH_JOIN, hash(fetchJoin.path())), fetchJoin.joinType().ordinal()));
+        }
+        return distinct ? mix(result, DISTINCT) : result;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long seed, long value) {
+        long hash = (seed ^ value) * 0x9e3779b97f4a7c15L;
+        return hash ^ (hash >>> 29);
+    }
+}
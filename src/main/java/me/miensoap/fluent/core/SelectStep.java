@@ -0,0 +1,40 @@
+package me.miensoap.fluent.core;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Reads only the selected attributes with the query's predicates and orderings.
+ * <p>
+ * Results are plain values, so nothing is registered in the persistence context and no dirty-checking
+ * snapshots are kept. Fetch joins are ignored for projections.
+ */
+public final class SelectStep<T> {
+
+    private final FluentQuery<T> query;
+    private final List<String> fields;
+
+    SelectStep(@NotNull FluentQuery<T> query, @NotNull List<String> fields) {
+        this.query = query;
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Instantiates {@code type} through the constructor matching the selected attributes in order.
+     */
+    @NotNull
+    public <R> List<R> fetchAs(@NotNull Class<R> type) {
+        return query.fetchProjection(type, fields);
+    }
+
+    /**
+     * Returns one tuple per row; elements can be read by index or by their attribute path.
+     */
+    @NotNull
+    public List<Tuple> fetchTuples() {
+        return query.fetchTuples(fields);
+    }
+}
@@ -0,0 +1,53 @@
+package me.miensoap.fluent.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects assignments for a bulk update of the rows matched by a {@link FluentQuery}.
+ * <p>
+ * {@link #execute()} issues a single {@code update} statement; it needs a transaction, bypasses
+ * lifecycle callbacks and versioning, and does not refresh entities already in the persistence context.
+ */
+public final class UpdateStep<T> {
+
+    private final FluentQuery<T> query;
+    private final List<Assignment> assignments = new ArrayList<>();
+
+    UpdateStep(@NotNull FluentQuery<T> query) {
+        this.query = query;
+    }
+
+    @NotNull
+    public <R> UpdateStep<T> set(@NotNull Property<T, R> property, @Nullable R value) {
+        return set(PropertyNameResolver.resolve(property), value);
+    }
+
+    /**
+     * @throws IllegalArgumentException when {@code field} navigates an association, such as
+     *                                  {@code team.name}; bulk statements can only assign the entity's own columns
+     */
+    @NotNull
+    public UpdateStep<T> set(@NotNull String field, @Nullable Object value) {
+        AttributePath path = AttributePath.of(field);
+        query.requireAssignable(path);
+        assignments.add(new Assignment(path.path(), value));
+        return this;
+    }
+
+    /**
+     * Executes the update and returns the number of updated rows.
+     */
+    public int execute() {
+        if (assignments.isEmpty()) {
+            throw new IllegalStateException("At least one assignment is required for a bulk update");
+        }
+        return query.executeUpdate(assignments);
+    }
+
+    record Assignment(String field, Object value) {
+    }
+}
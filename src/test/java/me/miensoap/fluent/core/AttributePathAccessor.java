@@ -0,0 +1,14 @@
+package me.miensoap.fluent.core;
+
+/**
+ * Test-only bridge to inspect package-private attribute path state.
+ */
+public final class AttributePathAccessor {
+
+    private AttributePathAccessor() {
+    }
+
+    public static boolean isInterned(String path) {
+        return AttributePath.isInterned(path);
+    }
+}
@@ -1,6 +1,7 @@
 package me.miensoap.fluent.support;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,12 +15,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
 @SpringBootTest(properties = {
-    "spring.jpa.properties.hibernate.session_factory.statement_inspector=me.miensoap.fluent.support.CapturingStatementInspector"
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=me.miensoap.fluent.support.CapturingStatementInspector",
+    "fluent.query.cache.enabled=true"
 })
 @Transactional
 public abstract class AbstractFluentQueryIntegrationTest {
@@ -30,6 +33,9 @@ public abstract class AbstractFluentQueryIntegrationTest {
     @PersistenceContext
     protected EntityManager entityManager;
 
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
     protected Team devTeam;
     protected Team opsTeam;
     protected Team partnerTeam;
@@ -37,7 +43,7 @@ public abstract class AbstractFluentQueryIntegrationTest {
 
     @BeforeEach
     void baseSetUp() {
-        now = LocalDateTime.now();
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         memberRepository.deleteAll();
         devTeam = new Team("Developers", "DEV");
         opsTeam = new Team("Operations", "OPS");
@@ -46,6 +52,17 @@ public abstract class AbstractFluentQueryIntegrationTest {
         clearExecutedSql();
     }
 
+    /**
+     * Deletes the seeded rows for tests that run outside the test-managed transaction, where they are committed.
+     */
+    protected void deleteCommittedData() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from member_tags").executeUpdate();
+            entityManager.createNativeQuery("delete from member").executeUpdate();
+            entityManager.createNativeQuery("delete from team").executeUpdate();
+        });
+    }
+
     protected FluentQuery<Member> query() {
         return memberRepository.query();
     }
@@ -0,0 +1,65 @@
+package me.miensoap.fluent.tests.integration.core;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import me.miensoap.fluent.core.AttributePathAccessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryAttributePathTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("같은 path 를 content/count 쿼리에서 반복 사용해도 결과가 일관된다")
+    void reusesParsedPathAcrossContentAndCountQueries() {
+        Page<Member> page = query()
+            .where("address.city").equalTo("Seoul")
+            .fetch(PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent())
+            .hasSize(2)
+            .allSatisfy(member -> assertThat(member.getAddress().getCity()).isEqualTo("Seoul"));
+    }
+
+    @Test
+    @DisplayName("metamodel 에 없는 속성은 속성명과 함께 명확히 실패한다")
+    void rejectsUnknownAttributes() {
+        assertThatThrownBy(() -> query().where("team.unknown").equalTo("x").fetch())
+            .hasStackTraceContaining("Unknown attribute 'unknown'")
+            .hasStackTraceContaining("team.unknown");
+    }
+
+    @Test
+    @DisplayName("기본 타입 속성 뒤로 더 탐색하려 하면 실패한다")
+    void rejectsNavigationThroughBasicAttributes() {
+        assertThatThrownBy(() -> query().where("status.length").equalTo(1).fetch())
+            .hasStackTraceContaining("'status'")
+            .hasStackTraceContaining("cannot be navigated");
+    }
+
+    @Test
+    @DisplayName("비어 있는 path 세그먼트는 DSL 호출 시점에 거부된다")
+    void rejectsBlankSegments() {
+        assertThatThrownBy(() -> query().where("team..name"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("team..name");
+    }
+
+    @Test
+    @DisplayName("metamodel 검증을 통과한 path 만 재사용 대상으로 보관한다")
+    void internsOnlyValidatedPaths() {
+        query().where("address.city").equalTo("Seoul").fetch();
+        assertThatThrownBy(() -> query().orderBy("address.unknownSortKey").ascending().fetch())
+            .hasStackTraceContaining("unknownSortKey");
+
+        assertThat(AttributePathAccessor.isInterned("address.city")).isTrue();
+        assertThat(AttributePathAccessor.isInterned("address.unknownSortKey")).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package me.miensoap.fluent.tests.integration.core;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.criteria.JoinType;
+import me.miensoap.fluent.core.QueryShape;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryShapeTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("값만 다른 쿼리는 같은 shape 와 fingerprint 를 가진다")
+    void ignoresBoundValues() {
+        QueryShape first = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .and(Member::getAge).between(20, 30)
+            .orderBy(Member::getAge).descending()
+            .shape();
+        QueryShape second = query()
+            .where(Member::getStatus).equalTo("INACTIVE")
+            .and(Member::getAge).between(40, 50)
+            .orderBy(Member::getAge).descending()
+            .shape();
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.fingerprint()).isEqualTo(second.fingerprint());
+    }
+
+    @Test
+    @DisplayName("연산자, 결합 방식, 정렬, fetchJoin, distinct 가 다르면 fingerprint 도 다르다")
+    void distinguishesStructure() {
+        long base = query().where(Member::getStatus).equalTo("ACTIVE").and(Member::getAge).greaterThan(20)
+            .shape().fingerprint();
+
+        assertThat(query().where(Member::getStatus).notEqualTo("ACTIVE").and(Member::getAge).greaterThan(20)
+            .shape().fingerprint()).isNotEqualTo(base);
+        assertThat(query().where(Member::getStatus).equalTo("ACTIVE").or(Member::getAge).greaterThan(20)
+            .shape().fingerprint()).isNotEqualTo(base);
+        assertThat(query().where(Member::getAge).greaterThan(20).and(Member::getStatus).equalTo("ACTIVE")
+            .shape().fingerprint()).isNotEqualTo(base);
+        assertThat(query().where(Member::getStatus).equalTo("ACTIVE").and(Member::getAge).greaterThan(20).not()
+            .shape().fingerprint()).isNotEqualTo(base);
+        assertThat(query().where(Member::getStatus).equalTo("ACTIVE").and(Member::getAge).greaterThan(20)
+            .orderBy(Member::getAge).ascending()
+            .shape().fingerprint()).isNotEqualTo(base);
+        assertThat(query().where(Member::getStatus).equalTo("ACTIVE").and(Member::getAge).greaterThan(20)
+            .fetchJoin(Member::getTeam)
+            .shape().fingerprint()).isNotEqualTo(base);
+        assertThat(query().where(Member::getStatus).equalTo("ACTIVE").and(Member::getAge).greaterThan(20)
+            .distinct()
+            .shape().fingerprint()).isNotEqualTo(base);
+    }
+
+    @Test
+    @DisplayName("shape 는 조건 트리와 정렬, fetchJoin 을 그대로 노출한다")
+    void exposesPredicateTree() {
+        QueryShape shape = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .or("team.name").startingWith("Dev")
+            .not()
+            .orderBy("team.name").ascending()
+            .fetchJoin(Member::getTeam, JoinType.LEFT)
+            .shape();
+
+        assertThat(shape.predicate()).isEqualTo(new QueryShape.Not(new QueryShape.Or(
+            new QueryShape.Condition("status", "equalTo"),
+            new QueryShape.Condition("team.name", "startingWith")
+        )));
+        assertThat(shape.orderings())
+            .containsExactly(new QueryShape.Ordering("team.name", Sort.Direction.ASC, false));
+        assertThat(shape.fetchJoins())
+            .containsExactly(new QueryShape.FetchJoin("team", JoinType.LEFT));
+        assertThat(shape.distinct()).isFalse();
+        assertThat(shape).hasToString("not((status:equalTo or team.name:startingWith)) order:team.name:ASC fetch:team:LEFT");
+    }
+
+    @Test
+    @DisplayName("조건이 없는 쿼리는 전체 조회 shape 를 가진다")
+    void emptyQueryMatchesAll() {
+        QueryShape shape = query().shape();
+
+        assertThat(shape.predicate()).isNull();
+        assertThat(shape).isEqualTo(query().shape()).hasToString("all");
+    }
+}
@@ -0,0 +1,64 @@
+package me.miensoap.fluent.tests.integration.dsl;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryBulkOperationTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("update().set(...).execute() 는 조건에 맞는 행을 한 번의 update 로 변경한다")
+    void updatesMatchingRowsInSingleStatement() {
+        clearExecutedSql();
+
+        int updated = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .and(Member::getAge).lessThan(30)
+            .update()
+            .set(Member::getStatus, "DORMANT")
+            .execute();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(executedSql())
+            .filteredOn(sql -> sql.toLowerCase().startsWith("update"))
+            .hasSize(1);
+
+        entityManager.clear();
+        assertThat(query().where(Member::getStatus).equalTo("DORMANT").fetch())
+            .extracting(Member::getEmail)
+            .containsExactlyInAnyOrder("amanda@corp.com", "bob@corp.com");
+    }
+
+    @Test
+    @DisplayName("연관 경로 조건의 delete() 는 id 서브쿼리로 대상 행을 제한한다")
+    void deletesThroughIdSubqueryForAssociationPredicates() {
+        long before = memberRepository.count();
+
+        int deleted = query()
+            .where("team.name").equalTo("Operations")
+            .and(Member::getRole).equalTo("STAFF")
+            .delete();
+
+        entityManager.clear();
+        List<Member> remaining = memberRepository.findAll();
+        assertThat(deleted).isEqualTo(1);
+        assertThat(remaining).hasSize((int) before - 1);
+        assertThat(remaining).extracting(Member::getEmail).doesNotContain("bob@corp.com");
+    }
+
+    @Test
+    @DisplayName("연관을 거치는 경로는 update 대입 대상으로 지정할 수 없다")
+    void rejectsAssignmentsThroughAssociations() {
+        assertThatThrownBy(() -> query().update().set("team.name", "Renamed"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("team.name");
+    }
+}
@@ -54,4 +54,38 @@ class FluentQueryCollectionOperationsTest extends AbstractFluentQueryIntegration
         List<Member> inactive = query().where(Member::getActive).isFalse().fetch();
         assertThat(inactive).allMatch(member -> Boolean.FALSE.equals(member.getActive()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("in 목록은 중복을 제거하고 2의 거듭제곱 크기로 패딩된다")
+    void padsInListToPowerOfTwo() {
+        clearExecutedSql();
+
+        List<Member> members = query()
+            .where(Member::getRole).in(List.of("USER", "STAFF", "ADMIN", "USER"))
+            .fetch();
+
+        assertThat(members).extracting(Member::getRole).containsExactlyInAnyOrder("USER", "STAFF", "ADMIN");
+        assertThat(executedSql()).singleElement()
+            .satisfies(sql -> assertThat(sql.replace(" ", "")).contains("in(?,?,?,?)"));
+    }
+
+    @Test
+    @DisplayName("chunk 크기를 넘는 in/notIn 목록은 여러 목록으로 나뉘어도 같은 결과를 낸다")
+    void splitsLongInListsIntoChunks() {
+        List<String> roles = List.of("USER", "STAFF", "ADMIN", "PARTNER", "VISITOR");
+        clearExecutedSql();
+
+        List<Member> members = query()
+            .inListChunkSize(2)
+            .where(Member::getRole).in(roles)
+            .fetch();
+        List<Member> others = query()
+            .inListChunkSize(2)
+            .where(Member::getRole).notIn(roles)
+            .fetch();
+
+        assertThat(members).hasSize(5);
+        assertThat(others).extracting(Member::getRole).containsExactly("ANALYST");
+        assertThat(executedSql().get(0).toLowerCase()).contains(" or ");
+    }
+}
@@ -0,0 +1,77 @@
+package me.miensoap.fluent.tests.integration.dsl;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryProjectionTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("select(...).fetchAs 는 필요한 컬럼만 읽어 DTO 로 만든다")
+    void fetchesDtoProjection() {
+        entityManager.flush();
+        entityManager.clear();
+        clearExecutedSql();
+
+        List<MemberRow> rows = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .orderBy(Member::getAge).ascending()
+            .select(Member::getId, Member::getEmail)
+            .fetchAs(MemberRow.class);
+
+        assertThat(rows)
+            .extracting(MemberRow::email)
+            .containsExactly("bob@corp.com", "amanda@corp.com", "alice@corp.com");
+        assertThat(executedSql())
+            .singleElement()
+            .satisfies(sql -> assertThat(sql.toLowerCase()).doesNotContain("grade"));
+        assertThat(rows).allSatisfy(row -> assertThat(row.id()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("fetchTuples 는 연관 경로를 outer join 으로 읽고 경로 이름으로 접근할 수 있다")
+    void fetchesTuplesWithAssociationPaths() {
+        List<Tuple> tuples = query()
+            .where(Member::getRole).in(List.of("USER", "STAFF"))
+            .orderBy(Member::getAge).descending()
+            .fetchJoin(Member::getTeam)
+            .select("email", "team.name")
+            .fetchTuples();
+
+        assertThat(tuples).hasSize(2);
+        assertThat(tuples.get(0).get("email")).isEqualTo("alice@corp.com");
+        assertThat(tuples.get(0).get("team.name")).isEqualTo("Developers");
+        assertThat(tuples.get(1).get(1)).isEqualTo("Operations");
+    }
+
+    @Test
+    @DisplayName("select 는 조건이 만든 join 을 재사용해 fetch 와 같은 행을 읽는다")
+    void selectsSameRowsAsFetch() {
+        memberRepository.save(new Member("ACTIVE", 50, "BASIC", "GUEST", now, "guest@corp.com", List.of()));
+
+        List<Member> members = query()
+            .where("team.name").equalTo("Developers")
+            .or(Member::getEmail).equalTo("guest@corp.com")
+            .fetch();
+        List<Tuple> tuples = query()
+            .where("team.name").equalTo("Developers")
+            .or(Member::getEmail).equalTo("guest@corp.com")
+            .select("email", "team.name")
+            .fetchTuples();
+
+        assertThat(members).extracting(Member::getEmail).containsExactlyInAnyOrder("alice@corp.com", "amanda@corp.com");
+        assertThat(tuples).extracting(tuple -> tuple.get("email"))
+            .containsExactlyInAnyOrder("alice@corp.com", "amanda@corp.com");
+    }
+
+    public record MemberRow(Long id, String email) {
+    }
+}
@@ -0,0 +1,97 @@
+package me.miensoap.fluent.tests.integration.dsl;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static me.miensoap.fluent.core.Param.param;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.miensoap.fluent.core.FluentQuery;
+import me.miensoap.fluent.core.FluentQueryContext;
+import me.miensoap.fluent.core.FluentTemplate;
+import me.miensoap.fluent.core.QueryExecution;
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryTemplateTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("compile() 한 템플릿은 인자만 바꿔 여러 번 실행해도 같은 SQL 을 사용한다")
+    void executesTemplateWithDifferentArguments() {
+        FluentTemplate<Member> template = query()
+            .where(Member::getStatus).equalTo(param("status"))
+            .and(Member::getAge).greaterThanOrEqualTo(param("minAge"))
+            .orderBy(Member::getAge).ascending()
+            .compile();
+        clearExecutedSql();
+
+        List<Member> active = template.fetch(Map.of("status", "ACTIVE", "minAge", 25));
+        List<Member> inactive = template.fetch(Map.of("status", "INACTIVE", "minAge", 0));
+
+        assertThat(active).extracting(Member::getAge).containsExactly(28, 35);
+        assertThat(inactive).extracting(Member::getEmail).containsExactly("isaac@corp.com");
+        assertThat(executedSql()).hasSize(2);
+        assertThat(executedSql().get(0)).isEqualTo(executedSql().get(1));
+        assertThat(executedSql().get(0)).doesNotContain("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("템플릿으로 단건 조회와 count 를 수행할 수 있다")
+    void supportsFetchOneAndCount() {
+        FluentTemplate<Member> template = query()
+            .where(Member::getEmail).equalTo(param("email"))
+            .compile();
+
+        assertThat(template.fetchOne(Map.of("email", "bob@corp.com")))
+            .get()
+            .extracting(Member::getRole)
+            .isEqualTo("STAFF");
+        assertThat(template.count(Map.of("email", "missing@corp.com"))).isZero();
+    }
+
+    @Test
+    @DisplayName("바인딩되지 않은 파라미터는 실행 시 명확한 예외를 던진다")
+    void rejectsMissingArguments() {
+        FluentTemplate<Member> template = query()
+            .where(Member::getStatus).notEqualTo(param("status"))
+            .compile();
+
+        assertThatThrownBy(() -> template.fetch(Map.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("status");
+    }
+
+    @Test
+    @DisplayName("파라미터가 포함된 쿼리는 compile() 없이 실행할 수 없다")
+    void rejectsParametersOutsideTemplates() {
+        assertThatThrownBy(() -> query().where(Member::getStatus).equalTo(param("status")).fetch())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(":status");
+        assertThatThrownBy(() -> query().where(Member::getAge).greaterThan(param("minAge")).count())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("compile()");
+    }
+
+    @Test
+    @DisplayName("템플릿 실행도 컴파일한 쿼리의 관찰자에게 보고된다")
+    void reportsExecutionsToObserver() {
+        List<QueryExecution> executions = new ArrayList<>();
+        FluentQueryContext<Member> context = new FluentQueryContext<>(Member.class,
+            entityManager.getEntityManagerFactory(), FluentQueryContext.defaultExecutor(), executions::add);
+        FluentTemplate<Member> template = new FluentQuery<>(memberRepository, context)
+            .where(Member::getStatus).equalTo(param("status"))
+            .compile();
+
+        template.fetch(Map.of("status", "ACTIVE"));
+        template.count(Map.of("status", "ACTIVE"));
+
+        assertThat(executions).extracting(QueryExecution::operation).containsExactly("fetch", "count");
+        assertThat(executions).extracting(QueryExecution::rows).containsExactly(3L, 1L);
+    }
+}
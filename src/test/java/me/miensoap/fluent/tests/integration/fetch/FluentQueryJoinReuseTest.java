@@ -0,0 +1,118 @@
+package me.miensoap.fluent.tests.integration.fetch;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import me.miensoap.fluent.support.PostFixtures;
+import me.miensoap.fluent.support.PostFixtures.PostGraph;
+import me.miensoap.fluent.support.entity.Member;
+import me.miensoap.fluent.support.entity.Post;
+import me.miensoap.fluent.support.repository.MemberLikePostRepository;
+import me.miensoap.fluent.support.repository.PostRepository;
+
+class FluentQueryJoinReuseTest extends AbstractFluentQueryIntegrationTest {
+
+    private static final Pattern TEAM_JOIN = Pattern.compile("join team\\b");
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberLikePostRepository likeRepository;
+
+    @Test
+    @DisplayName("필터, 정렬, fetchJoin 이 같은 연관을 하나의 join 으로 공유한다")
+    void sharesSingleJoinAcrossPredicateSortAndFetch() {
+        entityManager.flush();
+        entityManager.clear();
+        clearExecutedSql();
+
+        List<Member> members = query()
+            .where("team.name").in(List.of("Developers", "Operations"))
+            .orderBy("team.name").descending()
+            .fetchJoin(Member::getTeam)
+            .fetch();
+
+        assertThat(members).hasSize(4);
+        assertThat(members).allMatch(member -> Hibernate.isInitialized(member.getTeam()));
+        assertThat(members.get(0).getTeam().getName()).isEqualTo("Operations");
+        assertThat(executedSql()).singleElement()
+            .satisfies(sql -> assertThat(teamJoins(sql)).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("fetchJoin 없이도 필터와 정렬이 같은 경로면 join 을 한 번만 만든다")
+    void sharesJoinBetweenPredicateAndSort() {
+        clearExecutedSql();
+
+        List<Member> members = query()
+            .where("team.departmentCode").equalTo("DEV")
+            .fetch(Sort.by("team.name"));
+
+        assertThat(members).hasSize(2);
+        assertThat(executedSql()).singleElement()
+            .satisfies(sql -> assertThat(teamJoins(sql)).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 count 쿼리와 content 쿼리 모두 중복 join 이 없다")
+    void pagingKeepsSingleJoinPerStatement() {
+        entityManager.flush();
+        entityManager.clear();
+        clearExecutedSql();
+
+        Page<Member> page = query()
+            .where("team.name").equalTo("Partners")
+            .fetchJoin("team")
+            .fetch(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "team.departmentCode")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getSort().getOrderFor("team.departmentCode")).isNotNull();
+        assertThat(executedSql())
+            .hasSize(2)
+            .allSatisfy(sql -> assertThat(teamJoins(sql)).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("컬렉션 fetchJoin 은 조건과 공유하지 않아 컬렉션 전체가 로딩된다")
+    void keepsFetchedCollectionsComplete() {
+        PostGraph graph = PostFixtures.seedDefaultPosts(now, memberRepository, postRepository, likeRepository);
+        Long bobId = graph.devDigest().getLikes().get(1).getLiker().getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Post> posts = postRepository.query()
+            .fetchJoin("likes")
+            .where("likes.liker.id").equalTo(bobId)
+            .fetch();
+
+        assertThat(posts).singleElement().satisfies(post -> {
+            assertThat(post.getTitle()).isEqualTo(graph.devDigest().getTitle());
+            assertThat(Hibernate.isInitialized(post.getLikes())).isTrue();
+            assertThat(post.getLikes()).hasSize(2);
+        });
+    }
+
+    private int teamJoins(String sql) {
+        Matcher matcher = TEAM_JOIN.matcher(sql.toLowerCase());
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
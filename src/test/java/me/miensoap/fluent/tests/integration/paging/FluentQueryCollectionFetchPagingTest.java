@@ -0,0 +1,81 @@
+package me.miensoap.fluent.tests.integration.paging;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryCollectionFetchPagingTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("컬렉션 fetchJoin 페이지는 id 페이지를 먼저 조회하고 순서를 유지한다")
+    void pagesCollectionFetchJoinByIds() {
+        entityManager.flush();
+        entityManager.clear();
+        clearExecutedSql();
+
+        Page<Member> page = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .orderBy(Member::getAge).ascending()
+            .fetchJoin("tags")
+            .fetch(PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.getContent())
+            .extracting(Member::getEmail)
+            .containsExactly("bob@corp.com", "amanda@corp.com");
+
+        PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        assertThat(page.getContent()).allMatch(member -> util.isLoaded(member, "tags"));
+
+        List<String> sql = executedSql();
+        assertThat(sql).noneMatch(statement -> {
+            String lowered = statement.toLowerCase();
+            return lowered.contains("member_tags") && (lowered.contains("fetch first") || lowered.contains(" limit "));
+        });
+        assertThat(sql).anyMatch(statement -> statement.toLowerCase().contains("member_tags"));
+    }
+
+    @Test
+    @DisplayName("연관 경로 정렬과 마지막 페이지도 id 순서대로 로딩된다")
+    void keepsJoinedSortOrderOnLastPage() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<Member> page = query()
+            .fetchJoin(Member::getTags)
+            .fetch(PageRequest.of(1, 4, Sort.by(Sort.Order.desc("team.name"), Sort.Order.asc("age"))));
+
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent())
+            .extracting(Member::getEmail)
+            .containsExactly("amanda@corp.com", "alice@corp.com");
+        assertThat(page.getContent().get(1).getTags()).containsExactlyInAnyOrder("vip", "legacy");
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 id 가 없으면 빈 페이지를 반환한다")
+    void returnsEmptyPageWithoutLoadingEntities() {
+        clearExecutedSql();
+
+        Page<Member> page = query()
+            .where(Member::getStatus).equalTo("UNKNOWN")
+            .fetchJoin(Member::getTags)
+            .fetch(PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+        assertThat(executedSql()).hasSize(1);
+    }
+}
@@ -0,0 +1,69 @@
+package me.miensoap.fluent.tests.integration.paging;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryKeysetPagingTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("fetchAfter 는 이전 window 의 위치부터 정렬 순서대로 이어서 조회한다")
+    void continuesFromPreviousWindow() {
+        Window<Member> first = query()
+            .orderBy(Member::getAge).ascending()
+            .fetchAfter(null, 2);
+
+        assertThat(first.getContent()).extracting(Member::getAge).containsExactly(20, 28);
+        assertThat(first.hasNext()).isTrue();
+
+        clearExecutedSql();
+        Window<Member> second = query()
+            .orderBy(Member::getAge).ascending()
+            .fetchAfter(first.positionAt(first.size() - 1), 2);
+
+        assertThat(second.getContent()).extracting(Member::getAge).containsExactly(30, 33);
+        assertThat(executedSql())
+            .hasSize(1)
+            .allMatch(statement -> !statement.toLowerCase().contains("offset"));
+
+        Window<Member> last = query()
+            .orderBy(Member::getAge).ascending()
+            .fetchAfter(second.positionAt(second.size() - 1), 2);
+
+        assertThat(last.getContent()).extracting(Member::getAge).containsExactly(35, 40);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("중복된 정렬 값은 id tiebreaker 로 누락 없이 이어진다")
+    void usesIdAsTiebreakerForDuplicateSortValues() {
+        Window<Member> first = query()
+            .where(Member::getGrade).equalTo("BASIC")
+            .orderBy(Member::getGrade).ascending()
+            .fetchAfter(ScrollPosition.keyset(), 2);
+        Window<Member> second = query()
+            .where(Member::getGrade).equalTo("BASIC")
+            .orderBy(Member::getGrade).ascending()
+            .fetchAfter(first.positionAt(first.size() - 1), 2);
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(ids(first.getContent())).doesNotContainAnyElementsOf(ids(second.getContent()));
+    }
+
+    @Test
+    @DisplayName("limit 은 1 이상이어야 한다")
+    void rejectsNonPositiveLimit() {
+        assertThatThrownBy(() -> query().fetchAfter(null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
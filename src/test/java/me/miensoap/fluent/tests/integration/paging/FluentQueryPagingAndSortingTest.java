@@ -3,6 +3,7 @@ package me.miensoap.fluent.tests.integration.paging;
 import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.data.jpa.domain.Specification;
 
 import me.miensoap.fluent.support.entity.Member;
@@ -82,4 +84,13 @@ class FluentQueryPagingAndSortingTest extends
         assertThat(duplicates.size()).isGreaterThanOrEqualTo(deduped.size());
         assertThat(ids(deduped)).containsExactlyElementsOf(ids(expected));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("unsafe 정렬식과 null 정렬 옵션은 명시적으로 거부한다")
+    void rejectsUnsafeSortsAndNullHandling() {
+        assertThatThrownBy(() -> query().fetch(JpaSort.unsafe("LENGTH(email)")))
+            .hasStackTraceContaining("Unsafe sort expression 'LENGTH(email)'");
+        assertThatThrownBy(() -> query().fetch(PageRequest.of(0, 2, Sort.by(Sort.Order.asc("email").nullsLast()))))
+            .hasStackTraceContaining("Null handling NULLS_LAST");
+    }
+}
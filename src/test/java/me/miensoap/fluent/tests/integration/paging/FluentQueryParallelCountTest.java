@@ -0,0 +1,54 @@
+package me.miensoap.fluent.tests.integration.paging;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import me.miensoap.fluent.support.entity.Member;
+
+/**
+ * The parallel count uses its own connection, so these tests work on committed data.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FluentQueryParallelCountTest extends AbstractFluentQueryIntegrationTest {
+
+    @AfterEach
+    void deleteCommittedMembers() {
+        deleteCommittedData();
+    }
+
+    @Test
+    @DisplayName("countInParallel 은 content 와 count 를 동시에 실행해 같은 Page 를 만든다")
+    void combinesContentAndParallelCount() {
+        Page<Member> page = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .orderBy(Member::getAge).ascending()
+            .countInParallel()
+            .fetch(PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Member::getAge).containsExactly(20, 28);
+        assertThat(executedSql()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("컬렉션 fetchJoin 과 함께 써도 기준 엔티티 수로 count 한다")
+    void countsDistinctRootsWithCollectionFetchJoin() {
+        Page<Member> page = query()
+            .fetchJoin(Member::getTags)
+            .orderBy(Member::getAge).descending()
+            .countInParallel()
+            .fetch(PageRequest.of(0, 4));
+
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent()).extracting(Member::getAge).containsExactly(40, 35, 33, 30);
+    }
+}
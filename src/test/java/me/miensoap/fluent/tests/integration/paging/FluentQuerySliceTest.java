@@ -0,0 +1,59 @@
+package me.miensoap.fluent.tests.integration.paging;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQuerySliceTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("fetchSlice 는 count 쿼리 없이 size + 1 건으로 다음 slice 여부를 판단한다")
+    void fetchesSliceWithoutCountQuery() {
+        clearExecutedSql();
+
+        Slice<Member> first = query()
+            .orderBy(Member::getAge).ascending()
+            .fetchSlice(PageRequest.of(0, 4));
+
+        assertThat(first.getContent()).extracting(Member::getAge).containsExactly(20, 28, 30, 33);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getSort().getOrderFor("age")).isNotNull();
+        assertThat(executedSql())
+            .hasSize(1)
+            .allMatch(statement -> !statement.toLowerCase().contains("count("));
+
+        Slice<Member> last = query()
+            .orderBy(Member::getAge).ascending()
+            .fetchSlice(first.nextPageable());
+
+        assertThat(last.getContent()).extracting(Member::getAge).containsExactly(35, 40);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("컬렉션 fetchJoin 과 함께 써도 id 기준으로 slice 를 자른다")
+    void slicesCollectionFetchJoinByIds() {
+        entityManager.flush();
+        entityManager.clear();
+        clearExecutedSql();
+
+        Slice<Member> slice = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .orderBy(Member::getAge).descending()
+            .fetchJoin(Member::getTags)
+            .fetchSlice(PageRequest.of(0, 2));
+
+        assertThat(slice.getContent()).extracting(Member::getEmail).containsExactly("alice@corp.com", "amanda@corp.com");
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(executedSql())
+            .hasSize(2)
+            .allMatch(statement -> !statement.toLowerCase().contains("count("));
+    }
+}
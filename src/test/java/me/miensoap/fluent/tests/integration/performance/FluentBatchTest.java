@@ -0,0 +1,81 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+
+import me.miensoap.fluent.core.FluentBatch;
+import me.miensoap.fluent.core.FluentQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import me.miensoap.fluent.support.entity.Member;
+import me.miensoap.fluent.support.repository.PostRepository;
+
+/**
+ * Batched terminals use their own connections, so these tests work on committed data.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FluentBatchTest extends AbstractFluentQueryIntegrationTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @AfterEach
+    void deleteCommittedMembers() {
+        deleteCommittedData();
+    }
+
+    @Test
+    @DisplayName("여러 저장소의 종료 연산을 함께 실행하고 결과를 한 번에 돌려준다")
+    void executesTerminalsOfDifferentRepositoriesTogether() {
+        FluentBatch batch = new FluentBatch();
+        FluentBatch.Result<List<Member>> active = batch.add(
+            query().where(Member::getStatus).equalTo("ACTIVE").orderBy(Member::getAge).ascending(), FluentQuery::fetch);
+        FluentBatch.Result<Optional<Member>> isaac = batch.add(
+            query().where(Member::getEmail).equalTo("isaac@corp.com"), FluentQuery::fetchOne);
+        FluentBatch.Result<Long> members = batch.add(query(), FluentQuery::count);
+        FluentBatch.Result<Boolean> posts = batch.add(postRepository.query(), FluentQuery::exists);
+
+        batch.execute();
+
+        assertThat(active.get()).extracting(Member::getAge).containsExactly(20, 28, 35);
+        assertThat(isaac.get()).map(Member::getStatus).hasValue("INACTIVE");
+        assertThat(members.get()).isEqualTo(6);
+        assertThat(posts.get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과는 실행 전에 조회할 수 없고 배치는 한 번만 실행된다")
+    void resultsAreAvailableOnlyAfterExecution() {
+        FluentBatch batch = new FluentBatch();
+        FluentBatch.Result<Long> count = batch.add(query(), FluentQuery::count);
+
+        assertThatThrownBy(count::get).isInstanceOf(IllegalStateException.class);
+
+        batch.execute();
+
+        assertThat(count.get()).isEqualTo(6);
+        assertThatThrownBy(batch::execute).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> batch.add(query(), FluentQuery::count)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("실패한 종료 연산의 예외는 나머지가 끝난 뒤 전달된다")
+    void rethrowsFailureAfterAllCompleted() {
+        FluentBatch batch = new FluentBatch();
+        FluentBatch.Result<Long> count = batch.add(query(), FluentQuery::count);
+        batch.add(query().where("unknownField").equalTo("x"), FluentQuery::fetch);
+
+        assertThatThrownBy(batch::execute).hasStackTraceContaining("unknownField");
+        assertThat(count.get()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,153 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import me.miensoap.fluent.core.FluentLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentLoaderTest extends AbstractFluentQueryIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void flushSeedData() {
+        entityManager.flush();
+        clearExecutedSql();
+    }
+
+    @Test
+    @DisplayName("대기 중인 키를 한 번의 IN 쿼리로 조회해 각 호출에 돌려준다")
+    void resolvesPendingKeysWithOneQuery() {
+        FluentLoader<Member, String> byEmail = query().loader(Member::getEmail);
+        List<String> emails = List.of("alice@corp.com", "bob@corp.com", "nobody@corp.com", "alice@corp.com");
+
+        List<CompletableFuture<Optional<Member>>> members = emails.stream().map(byEmail::load).toList();
+        assertThat(executedSql()).isEmpty();
+        byEmail.dispatch();
+
+        assertThat(executedSql()).hasSize(1);
+        assertThat(members.get(0).join()).map(Member::getAge).hasValue(35);
+        assertThat(members.get(1).join()).map(Member::getAge).hasValue(20);
+        assertThat(members.get(2).join()).isEmpty();
+        assertThat(members.get(3)).isSameAs(members.get(0));
+    }
+
+    @Test
+    @DisplayName("로더를 만든 쿼리의 조건이 모든 조회에 적용된다")
+    void appliesPredicatesOfTheBaseQuery() {
+        FluentLoader<Member, String> activeByEmail = query().where(Member::getStatus).equalTo("ACTIVE").loader(Member::getEmail);
+
+        CompletableFuture<Optional<Member>> alice = activeByEmail.load("alice@corp.com");
+        CompletableFuture<Optional<Member>> isaac = activeByEmail.load("isaac@corp.com");
+        activeByEmail.dispatch();
+
+        assertThat(alice.join()).isPresent();
+        assertThat(isaac.join()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키가 여러 행과 일치하면 해당 조회만 실패한다")
+    void failsLookupsMatchingSeveralRows() {
+        FluentLoader<Member, String> byStatus = query().loader(Member::getStatus);
+
+        CompletableFuture<Optional<Member>> active = byStatus.load("ACTIVE");
+        CompletableFuture<Optional<Member>> inactive = byStatus.load("INACTIVE");
+        byStatus.dispatch();
+
+        assertThatThrownBy(active::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IncorrectResultSizeDataAccessException.class);
+        assertThat(inactive.join()).map(Member::getEmail).hasValue("isaac@corp.com");
+    }
+
+    @Test
+    @DisplayName("연관 경로 키는 DB 가 돌려준 키로 매칭해 연관을 추가로 로딩하지 않는다")
+    void matchesChainedKeysWithoutLoadingAssociations() {
+        entityManager.clear();
+        FluentLoader<Member, String> byTeamCode = query()
+            .where(Member::getRole).in(List.of("USER", "ADMIN", "PARTNER"))
+            .loader(member -> member.getTeam().getDepartmentCode());
+
+        CompletableFuture<Optional<Member>> dev = byTeamCode.load("DEV");
+        CompletableFuture<Optional<Member>> ops = byTeamCode.load("OPS");
+        CompletableFuture<Optional<Member>> none = byTeamCode.load("NONE");
+        byTeamCode.dispatch();
+
+        assertThat(dev.join()).map(Member::getEmail).hasValue("alice@corp.com");
+        assertThat(ops.join()).map(Member::getEmail).hasValue("isaac@corp.com");
+        assertThat(none.join()).isEmpty();
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("dispatch 전에 결과를 기다리면 대기 중인 키를 조회한다")
+    void dispatchesWhenWaitingOnPendingLookup() {
+        FluentLoader<Member, String> byEmail = query().loader(Member::getEmail);
+
+        CompletableFuture<Optional<Member>> bob = byEmail.load("bob@corp.com");
+        CompletableFuture<Optional<Member>> sue = byEmail.load("sue@partner.com");
+
+        assertThat(bob.join()).map(Member::getAge).hasValue(20);
+        assertThat(sue).isDone();
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("대기 키가 최대 배치 크기에 도달하면 즉시 조회한다")
+    void dispatchesWhenBatchIsFull() {
+        FluentLoader<Member, String> byEmail = query().loader(Member::getEmail).maxBatchSize(2);
+
+        CompletableFuture<Optional<Member>> alice = byEmail.load("alice@corp.com");
+        assertThat(alice).isNotDone();
+        CompletableFuture<Optional<Member>> bob = byEmail.load("bob@corp.com");
+
+        assertThat(alice).isDone();
+        assertThat(bob.join()).isPresent();
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("try-with-resources 블록이 끝나면 대기 중인 키를 한 번에 조회한다")
+    void dispatchesPendingKeysOnClose() {
+        List<CompletableFuture<Optional<Member>>> members;
+        try (FluentLoader<Member, String> byEmail = query().loader(Member::getEmail)) {
+            members = Stream.of("alice@corp.com", "bob@corp.com").map(byEmail::load).toList();
+            assertThat(executedSql()).isEmpty();
+        }
+
+        assertThat(members).allMatch(CompletableFuture::isDone);
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋되기 전에 대기 중인 키를 조회한다")
+    void dispatchesPendingKeysBeforeCommit() {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        CompletableFuture<Optional<Member>> lookup = requiresNew.execute(status ->
+            query().loader(Member::getEmail).load("alice@corp.com"));
+
+        assertThat(lookup).isDone();
+        assertThat(executedSql()).hasSize(1);
+    }
+}
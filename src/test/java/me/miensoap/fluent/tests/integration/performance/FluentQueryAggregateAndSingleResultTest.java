@@ -45,4 +45,21 @@ class FluentQueryAggregateAndSingleResultTest extends AbstractFluentQueryIntegra
         boolean exists = memberRepository.existsByRole("PARTNER");
         assertThat(query().where(Member::getRole).equalTo("PARTNER").exists()).isEqualTo(exists);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("exists() 는 전체 count 대신 한 건만 확인하는 쿼리를 실행한다")
+    void existsProbesSingleRowWithoutCounting() {
+        clearExecutedSql();
+
+        boolean exists = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .distinct()
+            .exists();
+
+        assertThat(exists).isTrue();
+        assertThat(query().where(Member::getStatus).equalTo("UNKNOWN").exists()).isFalse();
+        assertThat(executedSql())
+            .hasSize(2)
+            .allMatch(statement -> !statement.toLowerCase().contains("count("));
+    }
+}
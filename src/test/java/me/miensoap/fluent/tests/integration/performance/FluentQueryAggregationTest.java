@@ -0,0 +1,79 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryAggregationTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("sum/avg/min/max 는 조건을 적용한 단일 집계 쿼리로 계산된다")
+    void computesAggregatesInDatabase() {
+        clearExecutedSql();
+
+        Number sum = query().where(Member::getStatus).equalTo("ACTIVE").sum(Member::getAge).orElseThrow();
+        Double avg = query().where(Member::getStatus).equalTo("ACTIVE").avg(Member::getAge).orElseThrow();
+        Integer min = query().min(Member::getAge).orElseThrow();
+        Integer max = query().max(Member::getAge).orElseThrow();
+
+        assertThat(sum.intValue()).isEqualTo(83);
+        assertThat(avg).isCloseTo(83 / 3.0, within(0.01));
+        assertThat(min).isEqualTo(20);
+        assertThat(max).isEqualTo(40);
+        assertThat(executedSql()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("일치하는 행이 없으면 집계 결과는 비어 있다")
+    void returnsEmptyWhenNothingMatches() {
+        assertThat(query().where(Member::getStatus).equalTo("UNKNOWN").sum(Member::getAge)).isEmpty();
+        assertThat(query().where(Member::getStatus).equalTo("UNKNOWN").max(Member::getLastLoginAt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("groupBy 는 그룹 값별 count/sum 을 반환한다")
+    void groupsInDatabase() {
+        Map<String, Long> byGrade = query().groupBy(Member::getGrade).count();
+        Map<String, Number> agesByStatus = query()
+            .where(Member::getAge).greaterThan(25)
+            .groupBy(Member::getStatus)
+            .sum(Member::getAge);
+
+        assertThat(byGrade).containsExactly(
+            Map.entry("BASIC", 3L),
+            Map.entry("PREMIUM", 1L),
+            Map.entry("VIP", 1L),
+            Map.entry("VIP_GOLD", 1L)
+        );
+        assertThat(agesByStatus).containsOnlyKeys("ACTIVE", "DELETED", "INACTIVE", "SUSPENDED");
+        assertThat(agesByStatus.get("ACTIVE").intValue()).isEqualTo(63);
+    }
+
+    @Test
+    @DisplayName("groupBy 키는 조건의 join 을 재사용해 count() 와 같은 행을 집계한다")
+    void groupKeyReusesPredicateJoins() {
+        memberRepository.save(new Member("ACTIVE", 50, "BASIC", "GUEST", now, "guest@corp.com", List.of()));
+
+        long total = query()
+            .where("team.name").equalTo("Developers")
+            .or(Member::getEmail).equalTo("guest@corp.com")
+            .count();
+        Map<Object, Long> byTeam = query()
+            .where("team.name").equalTo("Developers")
+            .or(Member::getEmail).equalTo("guest@corp.com")
+            .groupBy("team.name")
+            .count();
+
+        assertThat(total).isEqualTo(2);
+        assertThat(byTeam).containsExactly(Map.entry("Developers", 2L));
+    }
+}
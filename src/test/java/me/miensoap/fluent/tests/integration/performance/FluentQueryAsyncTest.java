@@ -0,0 +1,134 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import me.miensoap.fluent.core.FluentQuery;
+import me.miensoap.fluent.core.FluentQueryCache;
+import me.miensoap.fluent.core.FluentQueryContext;
+import me.miensoap.fluent.core.FluentQueryObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import me.miensoap.fluent.support.entity.Member;
+
+/**
+ * Asynchronous terminals use their own connections, so these tests work on committed data.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FluentQueryAsyncTest extends AbstractFluentQueryIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void deleteCommittedMembers() {
+        deleteCommittedData();
+    }
+
+    @Test
+    @DisplayName("비동기 종료 연산을 동시에 실행하고 함께 기다릴 수 있다")
+    void fansOutIndependentQueries() {
+        CompletableFuture<List<Member>> active = query().where(Member::getStatus).equalTo("ACTIVE").fetchAsync();
+        CompletableFuture<Page<Member>> page = query().orderBy(Member::getAge).ascending().fetchAsync(PageRequest.of(0, 2));
+        CompletableFuture<Long> vipCount = query().where(Member::getGrade).startingWith("VIP").countAsync();
+        CompletableFuture<Optional<Member>> sue = query().where(Member::getEmail).equalTo("sue@partner.com").fetchOneAsync();
+        CompletableFuture<Boolean> unknown = query().where(Member::getStatus).equalTo("UNKNOWN").existsAsync();
+
+        CompletableFuture.allOf(active, page, vipCount, sue, unknown).join();
+
+        assertThat(active.join()).hasSize(3);
+        assertThat(page.join().getContent()).extracting(Member::getAge).containsExactly(20, 28);
+        assertThat(page.join().getTotalElements()).isEqualTo(6);
+        assertThat(vipCount.join()).isEqualTo(2);
+        assertThat(sue.join()).map(Member::getAge).hasValue(33);
+        assertThat(unknown.join()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비동기 종료 연산은 가상 스레드의 읽기 전용 트랜잭션에서 실행된다")
+    void runsInReadOnlyTransactionOnVirtualThread() {
+        List<Boolean> readOnly = new CopyOnWriteArrayList<>();
+        List<Boolean> virtual = new CopyOnWriteArrayList<>();
+        FluentQueryContext<Member> context = new FluentQueryContext<>(Member.class,
+            entityManager.getEntityManagerFactory(), FluentQueryContext.defaultExecutor(), execution -> {
+                readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                virtual.add(Thread.currentThread().isVirtual());
+            });
+
+        long count = new FluentQuery<>(memberRepository, context).countAsync().join();
+
+        assertThat(count).isEqualTo(6);
+        assertThat(readOnly).containsExactly(true);
+        assertThat(virtual).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("비동기 트랜잭션 안의 캐시 조회는 스레드를 다시 옮기지 않고 그 자리에서 실행된다")
+    void loadsCachedResultsInlineInsideAsyncTransactions() {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            FluentQueryContext<Member> context = new FluentQueryContext<>(Member.class,
+                entityManager.getEntityManagerFactory(), single, FluentQueryObserver.NOOP, new FluentQueryCache(16));
+
+            CompletableFuture<Long> count = new FluentQuery<>(memberRepository, context)
+                .where(Member::getStatus).equalTo("ACTIVE")
+                .cached(Duration.ofMinutes(1))
+                .countAsync();
+
+            assertThat(count).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(3L);
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 종료 연산은 지정한 트랜잭션 매니저로 읽기 전용 트랜잭션을 연다")
+    void usesTheGivenTransactionManager() {
+        List<TransactionDefinition> definitions = new CopyOnWriteArrayList<>();
+        PlatformTransactionManager recording = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                definitions.add(definition);
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+        FluentQueryContext<Member> context = new FluentQueryContext<>(Member.class,
+            entityManager.getEntityManagerFactory(), FluentQueryContext.defaultExecutor(), FluentQueryObserver.NOOP,
+            null, recording);
+
+        long count = new FluentQuery<>(memberRepository, context).countAsync().join();
+
+        assertThat(count).isEqualTo(6);
+        assertThat(definitions).singleElement().extracting(TransactionDefinition::isReadOnly).isEqualTo(true);
+    }
+}
@@ -0,0 +1,48 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryBatchIterationTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("batches 는 id 순서로 고정 크기 청크를 돌려주고 이전 청크를 분리한다")
+    void walksMatchingRowsByIdRanges() {
+        List<List<Member>> batches = new ArrayList<>();
+        for (List<Member> batch : query().where(Member::getAge).greaterThan(25).batches(2)) {
+            assertThat(batch).allMatch(entityManager::contains);
+            batches.add(batch);
+        }
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        List<Long> ids = batches.stream().flatMap(List::stream).map(Member::getId).toList();
+        assertThat(ids).isSorted().doesNotHaveDuplicates().hasSize(5);
+        assertThat(batches.get(0)).noneMatch(entityManager::contains);
+    }
+
+    @Test
+    @DisplayName("청크 쿼리는 offset 없이 마지막 id 이후를 조회한다")
+    void seeksWithoutOffset() {
+        entityManager.flush();
+        clearExecutedSql();
+
+        int total = 0;
+        for (List<Member> batch : query().batches(4)) {
+            total += batch.size();
+        }
+
+        assertThat(total).isEqualTo(6);
+        assertThat(executedSql())
+            .hasSize(2)
+            .allMatch(statement -> !statement.toLowerCase().contains("offset"));
+    }
+}
@@ -0,0 +1,102 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import me.miensoap.fluent.core.FluentQuery;
+import me.miensoap.fluent.core.FluentQueryContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import me.miensoap.fluent.support.entity.Member;
+
+/**
+ * Coalescing only applies outside transactions, so these tests work on committed data.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FluentQueryCoalescingTest extends AbstractFluentQueryIntegrationTest {
+
+    private static final int CALLERS = 8;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void deleteCommittedMembers() {
+        deleteCommittedData();
+    }
+
+    /**
+     * Context whose observer holds the first database call open long enough for all callers to join it.
+     */
+    private FluentQueryContext<Member> slowContext() {
+        return new FluentQueryContext<>(Member.class, entityManager.getEntityManagerFactory(),
+            FluentQueryContext.defaultExecutor(), execution -> {
+                executions.incrementAndGet();
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+    }
+
+    private <R> List<Object> runConcurrently(Function<FluentQuery<Member>, R> terminal) throws InterruptedException {
+        FluentQueryContext<Member> context = slowContext();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<R>> calls = new ArrayList<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                calls.add(threads.submit(() -> {
+                    start.await();
+                    return terminal.apply(new FluentQuery<>(memberRepository, context).coalesced());
+                }));
+            }
+            start.countDown();
+        }
+        List<Object> outcomes = new ArrayList<>();
+        for (Future<R> call : calls) {
+            try {
+                outcomes.add(call.get());
+            } catch (ExecutionException e) {
+                outcomes.add(e.getCause());
+            }
+        }
+        return outcomes;
+    }
+
+    @Test
+    @DisplayName("동시에 실행된 같은 쿼리는 하나의 DB 호출 결과를 공유한다")
+    void sharesOneCallBetweenConcurrentCallers() throws InterruptedException {
+        List<Object> results = runConcurrently(query -> query.where(Member::getStatus).equalTo("ACTIVE").fetch());
+
+        assertThat(executions).hasValue(1);
+        assertThat(results).hasSize(CALLERS).allSatisfy(result -> assertThat(result).isSameAs(results.get(0)));
+        assertThat((List<?>) results.get(0)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("공유된 호출이 실패하면 기다리던 호출 모두 같은 예외를 받는다")
+    void propagatesFailureToAllCallers() throws InterruptedException {
+        List<Object> results = runConcurrently(query -> query.where("unknownField").equalTo("x").fetch());
+
+        assertThat(executions).hasValue(1);
+        assertThat(results).hasSize(CALLERS).allSatisfy(result -> {
+            assertThat(result).isInstanceOf(RuntimeException.class);
+            assertThat(result).isSameAs(results.get(0));
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import me.miensoap.fluent.core.FluentQuery;
+import me.miensoap.fluent.core.FluentQueryContext;
+import me.miensoap.fluent.core.QueryExecution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import me.miensoap.fluent.support.entity.Member;
+
+class FluentQueryObserverTest extends AbstractFluentQueryIntegrationTest {
+
+    private final List<QueryExecution> executions = new CopyOnWriteArrayList<>();
+
+    private FluentQuery<Member> observed() {
+        FluentQueryContext<Member> context = new FluentQueryContext<>(Member.class,
+            entityManager.getEntityManagerFactory(), FluentQueryContext.defaultExecutor(), executions::add);
+        return new FluentQuery<>(memberRepository, context);
+    }
+
+    @Test
+    @DisplayName("종료 연산마다 연산 이름, 행 수, 소요 시간을 기록한다")
+    void recordsTerminalOperations() {
+        observed().where(Member::getStatus).equalTo("ACTIVE").fetch();
+        observed().where(Member::getStatus).equalTo("ACTIVE").count();
+        observed().where(Member::getStatus).equalTo("ACTIVE").fetch(PageRequest.of(0, 2));
+
+        assertThat(executions)
+            .extracting(QueryExecution::operation, QueryExecution::rows)
+            .containsExactly(
+                tuple("fetch", 3L),
+                tuple("count", 1L),
+                tuple("fetchPage", 2L)
+            );
+        assertThat(executions).allMatch(execution -> execution.domainType() == Member.class);
+        assertThat(executions).allMatch(execution -> !execution.duration().isNegative());
+        assertThat(executions).allMatch(QueryExecution::succeeded);
+    }
+
+    @Test
+    @DisplayName("값만 다른 쿼리는 같은 shape 를 가지며 shape 에 값이 포함되지 않는다")
+    void shapeIgnoresBoundValues() {
+        observed().where(Member::getStatus).equalTo("ACTIVE").and(Member::getAge).greaterThan(25)
+            .orderBy(Member::getAge).descending()
+            .fetch();
+        observed().where(Member::getStatus).equalTo("INACTIVE").and(Member::getAge).greaterThan(39)
+            .orderBy(Member::getAge).descending()
+            .fetch();
+        observed().where(Member::getStatus).equalTo("ACTIVE").or(Member::getAge).greaterThan(25)
+            .fetch();
+
+        assertThat(executions).hasSize(3);
+        assertThat(executions.get(0).shape()).isEqualTo(executions.get(1).shape());
+        assertThat(executions.get(0).shape().toString())
+            .isEqualTo("(status:equalTo and age:greaterThan) order:age:DESC")
+            .doesNotContain("ACTIVE");
+        assertThat(executions.get(2).shape().toString()).isEqualTo("(status:equalTo or age:greaterThan)");
+    }
+
+    @Test
+    @DisplayName("실패한 종료 연산도 예외와 함께 기록한다")
+    void recordsFailures() {
+        FluentQuery<Member> query = observed().where("unknownField").equalTo("x");
+
+        assertThatThrownBy(query::fetch).isInstanceOf(RuntimeException.class);
+
+        assertThat(executions).singleElement().satisfies(execution -> {
+            assertThat(execution.succeeded()).isFalse();
+            assertThat(execution.rows()).isZero();
+            assertThat(execution.shape().toString()).isEqualTo("unknownField:equalTo");
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static me.miensoap.fluent.core.Param.param;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import me.miensoap.fluent.core.FluentQuery;
+import me.miensoap.fluent.core.FluentQueryCache;
+import me.miensoap.fluent.core.FluentQueryContext;
+import me.miensoap.fluent.core.FluentQueryObserver;
+import me.miensoap.fluent.core.FluentTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import me.miensoap.fluent.support.entity.Address;
+import me.miensoap.fluent.support.entity.Member;
+import me.miensoap.fluent.support.entity.MembershipType;
+import me.miensoap.fluent.support.entity.Team;
+
+/**
+ * Read-write transactions bypass the cache, so these tests work on committed data.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FluentQueryResultCacheTest extends AbstractFluentQueryIntegrationTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void deleteCommittedMembers() {
+        deleteCommittedData();
+    }
+
+    private FluentQuery<Member> activeMembers(String status) {
+        return query().where(Member::getStatus).equalTo(status).cached(TTL);
+    }
+
+    @Test
+    @DisplayName("같은 shape 와 값의 쿼리는 캐시에서 응답한다")
+    void servesRepeatedQueriesFromCache() {
+        List<Member> first = activeMembers("ACTIVE").fetch();
+        long count = activeMembers("ACTIVE").count();
+        clearExecutedSql();
+
+        List<Member> second = activeMembers("ACTIVE").fetch();
+        long cachedCount = activeMembers("ACTIVE").count();
+
+        assertThat(second).containsExactlyElementsOf(first);
+        assertThat(cachedCount).isEqualTo(count).isEqualTo(3);
+        assertThat(executedSql()).isEmpty();
+        assertThatThrownBy(() -> second.add(second.get(0))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("바인딩 값이 다르면 별도 항목으로 캐시한다")
+    void keysOnBoundValues() {
+        activeMembers("ACTIVE").fetch();
+        clearExecutedSql();
+
+        List<Member> inactive = activeMembers("INACTIVE").fetch();
+
+        assertThat(inactive).extracting(Member::getEmail).containsExactly("isaac@corp.com");
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("조회 대상 엔티티가 변경되면 캐시가 무효화된다")
+    void invalidatesOnEntityChange() {
+        assertThat(activeMembers("ACTIVE").count()).isEqualTo(3);
+
+        memberRepository.save(new Member("ACTIVE", 27, "BASIC", "STAFF", now, "carol@corp.com", List.of(), true,
+            MembershipType.BASIC, new Team("Design", "DSN"), new Address("Seoul", "KR")));
+        clearExecutedSql();
+
+        assertThat(activeMembers("ACTIVE").count()).isEqualTo(4);
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("벌크 연산은 해당 엔티티의 캐시를 무효화한다")
+    void bulkOperationsInvalidate() {
+        assertThat(activeMembers("ACTIVE").count()).isEqualTo(3);
+
+        transactionTemplate.executeWithoutResult(status ->
+            query().where(Member::getStatus).equalTo("SUSPENDED").update().set(Member::getStatus, "ACTIVE").execute());
+
+        assertThat(activeMembers("ACTIVE").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("연관 경로를 조회한 캐시는 연관 엔티티 변경에도 무효화된다")
+    void invalidatesOnAssociatedEntityChange() {
+        query().where("team.name").startingWith("Dev").cached(TTL).fetch();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new Team("Design", "DSN")));
+        clearExecutedSql();
+        query().where("team.name").startingWith("Dev").cached(TTL).fetch();
+
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 캐시를 우회하고 커밋 전 변경을 다른 스레드에 노출하지 않는다")
+    void bypassesCacheInReadWriteTransactions() {
+        assertThat(activeMembers("ACTIVE").count()).isEqualTo(3);
+
+        long otherThread = transactionTemplate.execute(status -> {
+            query().where(Member::getEmail).equalTo("bob@corp.com").update().set(Member::getStatus, "INACTIVE").execute();
+
+            assertThat(activeMembers("ACTIVE").count()).isEqualTo(2);
+            return CompletableFuture.supplyAsync(() -> activeMembers("ACTIVE").count()).join();
+        });
+
+        assertThat(otherThread).isEqualTo(3);
+        assertThat(activeMembers("ACTIVE").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스레드에 바인딩된 EntityManager 가 있으면 분리된 엔티티를 별도 트랜잭션에서 읽어 캐시한다")
+    void loadsDetachedEntitiesWhenEntityManagerIsBound() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Member> loaded = readOnly.execute(status -> {
+            List<Member> members = activeMembers("ACTIVE").fetch();
+            assertThat(members).noneMatch(entityManager::contains);
+            return members;
+        });
+        clearExecutedSql();
+        List<Member> cached = readOnly.execute(status -> activeMembers("ACTIVE").fetch());
+
+        assertThat(cached).containsExactlyElementsOf(loaded);
+        assertThat(executedSql()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("plain Specification 이 포함된 쿼리는 캐시하지 않는다")
+    void skipsOpaqueSpecifications() {
+        query().where((root, query, cb) -> cb.equal(root.get("status"), "ACTIVE")).cached(TTL).count();
+        clearExecutedSql();
+
+        query().where((root, query, cb) -> cb.equal(root.get("status"), "ACTIVE")).cached(TTL).count();
+
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 가중치가 한도를 넘으면 오래 사용하지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsedBeyondWeight() {
+        FluentQueryCache small = new FluentQueryCache(4);
+        FluentQueryContext<Member> context = new FluentQueryContext<>(Member.class,
+            entityManager.getEntityManagerFactory(), FluentQueryContext.defaultExecutor(), FluentQueryObserver.NOOP, small);
+
+        new FluentQuery<>(memberRepository, context).where(Member::getStatus).equalTo("ACTIVE").cached(TTL).fetch();
+        new FluentQuery<>(memberRepository, context).where(Member::getStatus).equalTo("INACTIVE").cached(TTL).fetch();
+        assertThat(small.weight()).isEqualTo(4);
+
+        new FluentQuery<>(memberRepository, context).where(Member::getStatus).equalTo("DELETED").cached(TTL).fetch();
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.weight()).isEqualTo(2);
+
+        clearExecutedSql();
+        new FluentQuery<>(memberRepository, context).where(Member::getStatus).equalTo("INACTIVE").cached(TTL).fetch();
+        new FluentQuery<>(memberRepository, context).where(Member::getStatus).equalTo("ACTIVE").cached(TTL).fetch();
+        assertThat(executedSql()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("캐시가 없는 컨텍스트에서는 cached 를 사용할 수 없다")
+    void requiresCache() {
+        FluentQueryContext<Member> context = new FluentQueryContext<>(Member.class, entityManager.getEntityManagerFactory());
+
+        assertThatThrownBy(() -> new FluentQuery<>(memberRepository, context).cached(TTL))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("cached 쿼리를 compile() 한 템플릿은 인자별로 결과를 캐시한다")
+    void cachesTemplateExecutionsPerArguments() {
+        FluentTemplate<Member> template = query().where(Member::getStatus).equalTo(param("status")).cached(TTL).compile();
+        template.fetch(Map.of("status", "ACTIVE"));
+        clearExecutedSql();
+
+        List<Member> active = template.fetch(Map.of("status", "ACTIVE"));
+        List<Member> inactive = template.fetch(Map.of("status", "INACTIVE"));
+
+        assertThat(active).hasSize(3);
+        assertThat(inactive).extracting(Member::getEmail).containsExactly("isaac@corp.com");
+        assertThat(executedSql()).hasSize(1);
+    }
+}
@@ -0,0 +1,87 @@
+package me.miensoap.fluent.tests.integration.performance;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import me.miensoap.fluent.support.entity.Address;
+import me.miensoap.fluent.support.entity.Member;
+import me.miensoap.fluent.support.entity.MembershipType;
+
+class FluentQueryStreamingTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("stream() 은 정렬과 조건을 유지한 채 결과를 순차적으로 흘려보낸다")
+    void streamsFilteredAndSortedResults() {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Integer> ages;
+        try (Stream<Member> members = query()
+            .where(Member::getStatus).equalTo("ACTIVE")
+            .orderBy(Member::getAge).descending()
+            .stream()) {
+            ages = members.map(Member::getAge).toList();
+        }
+
+        assertThat(ages).containsExactly(35, 28, 20);
+    }
+
+    @Test
+    @DisplayName("forEach 는 자체 영속성 컨텍스트로 읽어 호출자의 엔티티를 분리하지 않는다")
+    void forEachLeavesCallerEntitiesManaged() {
+        Member alice = query().where(Member::getEmail).equalTo("alice@corp.com").fetchOne().orElseThrow();
+
+        List<Member> processed = new ArrayList<>();
+        query()
+            .orderBy(Member::getAge).ascending()
+            .forEach(2, processed::add);
+
+        assertThat(processed).extracting(Member::getAge).containsExactly(20, 28, 30, 33, 35, 40);
+        assertThat(processed).noneMatch(entityManager::contains);
+        assertThat(entityManager.contains(alice)).isTrue();
+        assertThat(entityManager.contains(alice.getTeam())).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 stream() 은 같은 커넥션으로 아직 flush 되지 않은 변경까지 읽는다")
+    void streamsPendingChangesOfTheCallerTransaction() {
+        memberRepository.save(new Member("ACTIVE", 50, "BASIC", "STAFF", now, "carol@corp.com", List.of(), true,
+            MembershipType.BASIC, devTeam, new Address("Seoul", "KR")));
+
+        List<String> emails;
+        try (Stream<Member> members = query().where(Member::getAge).greaterThanOrEqualTo(40).stream(2)) {
+            emails = members.map(Member::getEmail).toList();
+        }
+
+        assertThat(emails).containsExactlyInAnyOrder("isaac@corp.com", "carol@corp.com");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("트랜잭션 밖의 stream() 은 스트림이 닫힐 때까지 자체 EntityManager 를 유지한다")
+    void streamsOutsideTransactionsWithOwnEntityManager() {
+        try {
+            List<String> teams;
+            try (Stream<Member> members = query()
+                .where(Member::getStatus).equalTo("ACTIVE")
+                .orderBy(Member::getAge).ascending()
+                .stream(2)) {
+                teams = members.map(member -> member.getTeam().getName()).toList();
+            }
+
+            assertThat(teams).containsExactly("Operations", "Developers", "Developers");
+        } finally {
+            deleteCommittedData();
+        }
+    }
+}
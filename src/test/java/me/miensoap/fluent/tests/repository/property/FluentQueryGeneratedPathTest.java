@@ -0,0 +1,56 @@
+package me.miensoap.fluent.tests.repository.property;
+
+import me.miensoap.fluent.support.AbstractFluentQueryIntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.miensoap.fluent.support.entity.Member;
+import me.miensoap.fluent.support.entity.MemberPaths;
+
+class FluentQueryGeneratedPathTest extends AbstractFluentQueryIntegrationTest {
+
+    @Test
+    @DisplayName("생성된 path 상수는 dot-path 와 타입을 그대로 노출한다")
+    void generatedPathsExposePathAndType() {
+        assertThat(MemberPaths.status.path()).isEqualTo("status");
+        assertThat(MemberPaths.team.name.path()).isEqualTo("team.name");
+        assertThat(MemberPaths.team.name.type()).isEqualTo(String.class);
+        assertThat(MemberPaths.address.city.path()).isEqualTo("address.city");
+    }
+
+    @Test
+    @DisplayName("생성된 중첩 path 로 필터링한 결과가 람다 체이닝 결과와 같다")
+    void generatedNestedPathMatchesLambdaChain() {
+        List<Member> expected = query()
+            .where(member -> member.getTeam().getName()).equalTo("Developers")
+            .fetch();
+
+        List<Member> actual = query()
+            .where(MemberPaths.team.name).equalTo("Developers")
+            .fetch();
+
+        assertThat(ids(actual)).containsExactlyElementsOf(ids(expected));
+    }
+
+    @Test
+    @DisplayName("생성된 path 는 orderBy 와 fetchJoin 에도 그대로 사용할 수 있다")
+    void generatedPathsWorkForOrderingAndFetchJoin() {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Member> members = query()
+            .where(MemberPaths.age).greaterThanOrEqualTo(30)
+            .orderBy(MemberPaths.age).descending()
+            .fetchJoin(MemberPaths.team)
+            .fetch();
+
+        assertThat(members).extracting(Member::getAge).isSortedAccordingTo((a, b) -> b - a);
+        assertThat(members).allMatch(member -> Hibernate.isInitialized(member.getTeam()));
+    }
+}
@@ -0,0 +1,101 @@
+package me.miensoap.fluent.tests.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.miensoap.fluent.core.PropertyResolution;
+import me.miensoap.fluent.core.PropertyResolverAccessor;
+
+class PropertyBytecodeResolutionTest {
+
+    @BeforeEach
+    void useBytecodeStrategy() {
+        PropertyResolution.useStrategy(PropertyResolution.Strategy.BYTECODE);
+    }
+
+    @AfterEach
+    void restoreDefaultStrategy() {
+        PropertyResolution.useStrategy(PropertyResolution.Strategy.PROXY);
+    }
+
+    @Test
+    @DisplayName("바이트코드 전략은 프록시 없이 getter 체인을 해석한다")
+    void resolvesChainWithoutProxies() {
+        int proxyClasses = PropertyResolution.proxyClassCount();
+
+        assertThat(PropertyResolverAccessor.<Root, Long>resolve(root -> root.getChild().getId())).isEqualTo("child.id");
+        assertThat(PropertyResolverAccessor.<Root, Long>resolveType(root -> root.getChild().getId())).isEqualTo(Long.class);
+        assertThat(PropertyResolution.proxyClassCount()).isEqualTo(proxyClasses);
+    }
+
+    @Test
+    @DisplayName("interface 나 final 타입이 체인 중간에 있어도 해석할 수 있다")
+    void resolvesInterfaceAndFinalIntermediateTypes() {
+        assertThat(PropertyResolverAccessor.<Root, String>resolve(root -> root.getNamed().getName())).isEqualTo("named.name");
+        assertThat(PropertyResolverAccessor.<Root, String>resolve(root -> root.getSealedChild().getCode())).isEqualTo("sealedChild.code");
+    }
+
+    @Test
+    @DisplayName("primitive leaf 는 boxing 호출을 건너뛰고 원래 타입을 반환한다")
+    void resolvesPrimitiveLeafType() {
+        assertThat(PropertyResolverAccessor.<Root, Integer>resolve(root -> root.getSealedChild().getRank())).isEqualTo("sealedChild.rank");
+        assertThat(PropertyResolverAccessor.<Root, Integer>resolveType(root -> root.getSealedChild().getRank())).isEqualTo(int.class);
+    }
+
+    @Test
+    @DisplayName("getter 체인이 아닌 람다 본문은 명확한 예외를 던진다")
+    void rejectsNonChainBodies() {
+        assertThatThrownBy(() -> PropertyResolverAccessor.<Root, String>resolve(root -> root.getNamed().getName().trim()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("trim");
+    }
+
+    static class Root {
+
+        Child getChild() {
+            return new Child();
+        }
+
+        Named getNamed() {
+            return () -> "named";
+        }
+
+        SealedChild getSealedChild() {
+            return new SealedChild("code");
+        }
+    }
+
+    static class Child {
+
+        Long getId() {
+            return 1L;
+        }
+    }
+
+    interface Named {
+
+        String getName();
+    }
+
+    static final class SealedChild {
+
+        private final String code;
+
+        SealedChild(String code) {
+            this.code = code;
+        }
+
+        String getCode() {
+            return code;
+        }
+
+        int getRank() {
+            return 1;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import me.miensoap.fluent.core.Property;
+import me.miensoap.fluent.core.PropertyResolution;
 import me.miensoap.fluent.core.PropertyResolverAccessor;
 
 class PropertyNameResolverTest {
@@ -73,6 +75,27 @@ class PropertyNameResolverTest {
         assertThat(first).isEqualTo(second);
     }
 
+    @Test
+    @DisplayName("같은 호출 지점에서 반복 생성한 람다도 동일한 path 와 타입으로 해석된다")
+    void reusesResolutionForSameLambdaClass() {
+        for (int i = 0; i < 3; i++) {
+            Property<DemoRoot, Long> property = root -> root.getChild().getId();
+            assertThat(PropertyResolverAccessor.resolve(property)).isEqualTo("child.id");
+            assertThat(PropertyResolverAccessor.resolveType(property)).isEqualTo(Long.class);
+        }
+    }
+
+    @Test
+    @DisplayName("서로 다른 체인 람다라도 같은 타입의 프록시 클래스를 재사용한다")
+    void reusesProxyClassesAcrossChains() {
+        PropertyResolverAccessor.<DemoRoot, Long>resolve(root -> root.getChild().getId());
+        int warmedUp = PropertyResolution.proxyClassCount();
+
+        assertThat(PropertyResolverAccessor.<DemoRoot, Long>resolve(root -> root.getChild().getId())).isEqualTo("child.id");
+        assertThat(PropertyResolverAccessor.<DemoRoot, String>resolve(root -> root.getChild().getLabel())).isEqualTo("child.label");
+        assertThat(PropertyResolution.proxyClassCount()).isEqualTo(warmedUp);
+    }
+
     public static class DemoRoot {
 
         private final DemoChild child = new DemoChild();
@@ -122,6 +145,10 @@ class PropertyNameResolverTest {
         Long getId() {
             return 1L;
         }
+
+        String getLabel() {
+            return "label";
+        }
     }
 
     private interface InterfaceChild {